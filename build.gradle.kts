@@ -6,6 +6,7 @@ plugins {
     id("io.spring.dependency-management") version "1.1.7"
     kotlin("jvm") version "1.9.25"
     kotlin("plugin.spring") version "1.9.25"
+    id("me.champeau.jmh") version "0.7.2"     // JMH 마이크로벤치마크 (src/jmh)
 }
 
 group = "com.back"
@@ -49,6 +50,8 @@ dependencies {
 
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.11")
 
+    implementation("com.github.ben-manes.caffeine:caffeine")    // 로컬 캐시 (버전은 Spring Boot BOM 관리)
+
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
     testImplementation ("org.springframework.security:spring-security-test")
@@ -57,6 +60,10 @@ dependencies {
     implementation("com.fasterxml.jackson.module:jackson-module-kotlin")
     implementation("org.jetbrains.kotlin:kotlin-reflect")
     testImplementation("org.jetbrains.kotlin:kotlin-test-junit5")
+
+    // JMH 벤치마크 (인증 필터를 목 UserService 와 MockHttpServletRequest 로 실행)
+    jmh("org.springframework:spring-test")
+    jmh("org.mockito:mockito-core")
 }
 
 kotlin {
@@ -72,4 +79,17 @@ tasks.withType<JavaCompile> {
 tasks.named<Test>("test") {
     jvmArgs("--enable-preview")
     useJUnitPlatform()
-}
\ No newline at end of file
+}
+
+// ./gradlew jmh -PjmhIncludes=JwtTokenProviderBenchmark
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+    benchmarkMode = listOf("avgt")
+    timeUnit = "us"
+    jvmArgsAppend = listOf("--enable-preview")
+    if (project.hasProperty("jmhIncludes")) {
+        includes = listOf(project.property("jmhIncludes") as String)
+    }
+}
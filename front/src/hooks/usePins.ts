@@ -38,6 +38,8 @@ export function usePins(initialCenter: UsePinsProps, userId?: number | null) {
     const [selectedPin, setSelectedPin] = useState<PinDto | null>(null);
     const [selectedTags, setSelectedTags] = useState<string[]>([]);
     const [allTags, setAllTags] = useState<TagDto[]>([]);
+    // 마지막 화면/주변 조회 기준 (태그만 바꿀 때 같은 범위로 다시 조회)
+    const [lastQuery, setLastQuery] = useState<{ lat: number; lng: number; radius?: number } | null>(null);
 
     /* =========================================================
        ✅ 공통 유틸 함수
@@ -73,6 +75,10 @@ export function usePins(initialCenter: UsePinsProps, userId?: number | null) {
         });
     };
 
+    // 범위 조회 API 의 tags 파라미터 (모든 태그가 달린 핀만 서버에서 걸러 줌)
+    const tagsParam = (tags: string[]): string =>
+        tags.map((t) => `&tags=${encodeURIComponent(t)}`).join("");
+
     const filterPinsByTags = (pinsToFilter: PinDto[], tags: string[]): PinDto[] => {
         if (tags.length === 0) return pinsToFilter;
 
@@ -109,13 +115,16 @@ export function usePins(initialCenter: UsePinsProps, userId?: number | null) {
     /* =========================================================
        ✅ 화면상 모든 핀 조회
     ========================================================= */
-    const loadAllPins = async (lat?: number, lng?: number, radius?: number) => {
+    const loadAllPins = async (lat?: number, lng?: number, radius?: number, tags: string[] = selectedTags) => {
         setLoading(true);
         try {
             const validRadius = radius && radius > 0 ? radius : undefined;
             const radiusParam = validRadius ? `&radius=${validRadius}` : "";
+            const queryLat = lat ?? center.lat;
+            const queryLng = lng ?? center.lng;
 
-            const url = `/api/pins?latitude=${lat ?? center.lat}&longitude=${lng ?? center.lng}${radiusParam}`;
+            // ✅ 선택한 태그는 서버에서 필터링
+            const url = `/api/pins?latitude=${queryLat}&longitude=${queryLng}${radiusParam}${tagsParam(tags)}`;
 
             // ✅ fetchApi 사용
             const data:PinDto[] = await fetchApi(url, {
@@ -127,10 +136,9 @@ export function usePins(initialCenter: UsePinsProps, userId?: number | null) {
             const normalized = normalizePins(pinArray);
             const pinsWithTags = await loadTagsForPins(normalized);
 
+            setPins(pinsWithTags);
             setAllLoadedPins(pinsWithTags);
-
-            const filtered = filterPinsByTags(pinsWithTags, selectedTags);
-            setPins(filtered);
+            setLastQuery({lat: queryLat, lng: queryLng, radius: validRadius});
 
             setMode("screen");
         } catch (e) {
@@ -151,6 +159,13 @@ export function usePins(initialCenter: UsePinsProps, userId?: number | null) {
        ✅ 주변 핀 조회
     ========================================================= */
     const loadNearbyPins = async (lat?: number, lng?: number) => {
+        await fetchNearbyPins(lat, lng, []);
+
+        // ✅ 모드 변경 시 필터 초기화
+        setSelectedTags([]);
+    };
+
+    const fetchNearbyPins = async (lat: number | undefined, lng: number | undefined, tags: string[]) => {
         setLoading(true);
         try {
             const apiKey = localStorage.getItem("apiKey");
@@ -164,7 +179,9 @@ export function usePins(initialCenter: UsePinsProps, userId?: number | null) {
                 headers["Authorization"] = `Bearer ${apiKey} ${accessToken}`;
             }
 
-            const url = `${process.env.NEXT_PUBLIC_API_BASE_URL}/api/pins?latitude=${lat ?? center.lat}&longitude=${lng ?? center.lng}`;
+            const queryLat = lat ?? center.lat;
+            const queryLng = lng ?? center.lng;
+            const url = `${process.env.NEXT_PUBLIC_API_BASE_URL}/api/pins?latitude=${queryLat}&longitude=${queryLng}${tagsParam(tags)}`;
 
             const res = await fetch(url, {
                 method: "GET",
@@ -179,10 +196,8 @@ export function usePins(initialCenter: UsePinsProps, userId?: number | null) {
             const pinsWithTags = await loadTagsForPins(normalized);
             setPins(pinsWithTags);
             setAllLoadedPins(pinsWithTags);
+            setLastQuery({lat: queryLat, lng: queryLng});
             setMode("nearby");
-
-            // ✅ 모드 변경 시 필터 초기화
-            setSelectedTags([]);
         } catch (e) {
             console.error("주변 핀 로드 실패:", e);
             setPins([]);
@@ -198,25 +213,30 @@ export function usePins(initialCenter: UsePinsProps, userId?: number | null) {
     const applyTagFilter = async (tags: string[]) => {
         setSelectedTags(tags);
 
+        // ✅ screen 모드: 같은 범위를 태그 조건으로 다시 조회 (서버 사이드 필터링)
+        if (mode === "screen") {
+            await loadAllPins(lastQuery?.lat, lastQuery?.lng, lastQuery?.radius, tags);
+            return;
+        }
+
+        // ✅ nearby 모드: 같은 위치를 태그 조건으로 다시 조회 (서버 사이드 필터링)
+        if (mode === "nearby") {
+            await fetchNearbyPins(lastQuery?.lat, lastQuery?.lng, tags);
+            return;
+        }
+
         // ✅ 태그 전체 해제 시
         if (tags.length === 0) {
-            // screen, bookmark, liked 모드일 때는 전체 로드된 핀 복원
-            if (mode === "screen" || mode === "bookmark" || mode === "liked") {
+            // bookmark, liked 모드일 때는 전체 로드된 핀 복원
+            if (mode === "bookmark" || mode === "liked") {
                 setPins(allLoadedPins);
                 return;
             }
-            // nearby나 tag 모드일 때는 주변 핀 다시 로드
+            // tag 모드일 때는 주변 핀 다시 로드
             await loadNearbyPins();
             return;
         }
 
-        // ✅ screen 모드: 클라이언트 사이드 필터링
-        if (mode === "screen") {
-            const filtered = filterPinsByTags(allLoadedPins, tags);
-            setPins(filtered);
-            return;
-        }
-
         // ✅ bookmark 모드: 클라이언트 사이드 필터링
         if (mode === "bookmark") {
             const filtered = filterPinsByTags(allLoadedPins, tags);
@@ -231,14 +251,23 @@ export function usePins(initialCenter: UsePinsProps, userId?: number | null) {
             return;
         }
 
-        // ✅ nearby 또는 tag 모드: 서버 사이드 필터링
+        // ✅ tag 모드: 위치와 관계없이 태그로 서버 사이드 필터링
         setLoading(true);
         try {
             const query = tags.map((t) => `keywords=${encodeURIComponent(t)}`).join("&");
-            const res = await fetch(`${process.env.NEXT_PUBLIC_API_BASE_URL}/api/tags/filter?${query}`);
-            const data = await res.json();
 
-            const filteredPins = extractArray(data.data);
+            // 서버가 pin_id 커서로 나눠 주므로 hasNext 가 false 가 될 때까지 이어서 조회
+            const filteredPins: any[] = [];
+            let cursor: number | null = null;
+            do {
+                const cursorParam = cursor === null ? "" : `&cursor=${cursor}`;
+                const res = await fetch(`${process.env.NEXT_PUBLIC_API_BASE_URL}/api/tags/filter?${query}&size=200${cursorParam}`);
+                const data = await res.json();
+
+                filteredPins.push(...extractArray(data.data));
+                cursor = data.data?.hasNext ? data.data.nextCursor ?? null : null;
+            } while (cursor !== null);
+
             const normalized = normalizePins(filteredPins);
 
             const pinsWithTags = await loadTagsForPins(normalized);
@@ -396,23 +425,29 @@ export function usePins(initialCenter: UsePinsProps, userId?: number | null) {
         }
     };
 
+    // 한 번의 요청으로 여러 핀의 태그를 조회 (/api/tags/pins?pinIds=...)
+    // ID 는 쿼리 스트링에 실리므로 요청 헤더 한도(Tomcat 기본 8KB)에 여유가 있도록 100 개씩 나눔
+    const TAG_BATCH_SIZE = 100;
+
     const loadTagsForPins = async (pinsToLoad: PinDto[]): Promise<PinDto[]> => {
+        if (pinsToLoad.length === 0) return pinsToLoad;
         try {
-            const pinsWithTags = await Promise.all(
-                pinsToLoad.map(async (pin) => {
-                    try {
-                        const res = await fetch(`${process.env.NEXT_PUBLIC_API_BASE_URL}/api/pins/${pin.id}/tags`);
-                        const data = await res.json();
-                        const tagsArray = Array.isArray(data.data?.tags) ? data.data.tags : [];
-                        const tagNames = tagsArray.map((t: any) => t.keyword);
-                        return {...pin, tags: tagNames};
-                    } catch (e) {
-                        console.error(`핀 ${pin.id} 태그 로드 실패:`, e);
-                        return {...pin, tags: []};
-                    }
-                })
-            );
-            return pinsWithTags;
+            const pinIds = pinsToLoad.map((pin) => pin.id).filter((id) => Number.isInteger(id));
+            const tagsByPin: Record<string, TagDto[]> = {};
+            for (let i = 0; i < pinIds.length; i += TAG_BATCH_SIZE) {
+                const query = pinIds
+                    .slice(i, i + TAG_BATCH_SIZE)
+                    .map((id) => `pinIds=${id}`)
+                    .join("&");
+                const res = await fetch(`${process.env.NEXT_PUBLIC_API_BASE_URL}/api/tags/pins?${query}`);
+                const data = await res.json();
+                Object.assign(tagsByPin, data.data?.tags ?? {});
+            }
+
+            return pinsToLoad.map((pin) => {
+                const tagsArray = Array.isArray(tagsByPin[pin.id]) ? tagsByPin[pin.id] : [];
+                return {...pin, tags: tagsArray.map((t: any) => t.keyword)};
+            });
         } catch (e) {
             console.error("태그 일괄 로드 실패:", e);
             return pinsToLoad;
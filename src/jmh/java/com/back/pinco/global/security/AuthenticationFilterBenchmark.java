@@ -0,0 +1,140 @@
+package com.back.pinco.global.security;
+
+import com.back.pinco.domain.user.entity.User;
+import com.back.pinco.domain.user.service.UserService;
+import com.back.pinco.global.rq.Rq;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * 인증 파이프라인 단계별 비용
+ * - 토큰 발급/검증/클레임 추출
+ * - Rq 의 헤더/쿠키 조회
+ * - CustomAuthenticationFilter 전체 (Authorization 헤더 / 쿠키 방식 / apiKey 만 있는 경우, UserService 는 DB 없이 목으로 대체)
+ * 실행: ./gradlew jmh -PjmhIncludes=AuthenticationFilterBenchmark
+ */
+@State(Scope.Thread)
+public class AuthenticationFilterBenchmark {
+
+    private static final String SECRET = "aVeryLongSecretKey_ChangeMe_2025!";
+    private static final String API_KEY = "3f2b1c4e-9d8a-4b7c-a6e5-1d2c3b4a5f60";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private JwtTokenProvider tokenProvider;
+    private String accessToken;
+
+    private MockHttpServletRequest headerRequest;
+    private MockHttpServletResponse headerResponse;
+    private CustomAuthenticationFilter headerFilter;
+
+    private MockHttpServletRequest cookieRequest;
+    private MockHttpServletResponse cookieResponse;
+    private CustomAuthenticationFilter cookieFilter;
+    private Rq cookieRq;
+
+    private MockHttpServletRequest apiKeyRequest;
+    private MockHttpServletResponse apiKeyResponse;
+    private CustomAuthenticationFilter apiKeyFilter;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 1800, 86400, 10_000);
+
+        User user = new User("user1@example.com", "encoded-password", "유저1");
+        user.setId(1L);
+        user.setApiKey(API_KEY);
+        accessToken = tokenProvider.generateAccessToken(user.getId(), user.getEmail(), user.getUserName());
+
+        // 호출 기록을 남기지 않는 목 (반복 호출 시 메모리 누적 방지)
+        UserService userService = Mockito.mock(UserService.class, Mockito.withSettings().stubOnly());
+        when(userService.findPrincipalByApiKey(API_KEY)).thenReturn(Optional.of(user));
+        when(userService.findPrincipalById(1L)).thenReturn(Optional.of(user));
+
+        headerRequest = new MockHttpServletRequest("POST", "/api/pins");
+        headerRequest.addHeader("Authorization", "Bearer %s %s".formatted(API_KEY, accessToken));
+        headerResponse = new MockHttpServletResponse();
+        headerFilter = new CustomAuthenticationFilter(userService, tokenProvider, new Rq(headerRequest, headerResponse, null));
+
+        cookieRequest = new MockHttpServletRequest("POST", "/api/pins");
+        cookieRequest.setCookies(
+                new Cookie("JSESSIONID", "node0abc"),
+                new Cookie("theme", "dark"),
+                new Cookie("apiKey", API_KEY),
+                new Cookie("accessToken", accessToken)
+        );
+        cookieResponse = new MockHttpServletResponse();
+        cookieRq = new Rq(cookieRequest, cookieResponse, null);    // 필터는 getActor() 를 쓰지 않으므로 EntityManager 불필요
+        cookieFilter = new CustomAuthenticationFilter(userService, tokenProvider, cookieRq);
+
+        apiKeyRequest = new MockHttpServletRequest("POST", "/api/pins");
+        apiKeyRequest.addHeader("X-API-Key", API_KEY);
+        apiKeyResponse = new MockHttpServletResponse();
+        apiKeyFilter = new CustomAuthenticationFilter(userService, tokenProvider, new Rq(apiKeyRequest, apiKeyResponse, null));
+    }
+
+    // ===== JWT =====
+
+    @Benchmark
+    public String generateAccessToken() {
+        return tokenProvider.generateAccessToken(1L, "user1@example.com", "유저1");
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return tokenProvider.isValid(accessToken);
+    }
+
+    @Benchmark
+    public Map<String, Object> payloadOrNull() {
+        return tokenProvider.payloadOrNull(accessToken);
+    }
+
+    // ===== Rq =====
+
+    @Benchmark
+    public String cookieLookup() {
+        return cookieRq.getCookieValue("accessToken", "");
+    }
+
+    // ===== 필터 전체 =====
+
+    @Benchmark
+    public Object filterWithAuthorizationHeader() throws ServletException, IOException {
+        return runFilter(headerFilter, headerRequest, headerResponse);
+    }
+
+    @Benchmark
+    public Object filterWithCookies() throws ServletException, IOException {
+        return runFilter(cookieFilter, cookieRequest, cookieResponse);
+    }
+
+    @Benchmark
+    public Object filterWithApiKeyOnly() throws ServletException, IOException {
+        return runFilter(apiKeyFilter, apiKeyRequest, apiKeyResponse);
+    }
+
+    private Object runFilter(CustomAuthenticationFilter filter, MockHttpServletRequest request, MockHttpServletResponse response)
+            throws ServletException, IOException {
+        try {
+            filter.doFilter(request, response, NO_OP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.back.pinco.global.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 요청당 access 토큰 인증 비용 비교
+ * - legacy: 호출마다 JwtParser 를 만들고 isValid → payloadOrNull 로 두 번 검증 (변경 전 필터 동작)
+ * - sharedParser: 공유 파서로 한 번만 검증 (캐시 없음, 처음 보는 토큰)
+ * - cached: 최근 검증한 토큰 → 클레임 캐시 적중 (같은 토큰으로 반복 요청)
+ */
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "aVeryLongSecretKey_ChangeMe_2025!";
+
+    private Key key;
+    private JwtTokenProvider uncachedProvider;
+    private JwtTokenProvider cachedProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        uncachedProvider = new JwtTokenProvider(SECRET, 1800, 86400, 0);
+        cachedProvider = new JwtTokenProvider(SECRET, 1800, 86400, 10_000);
+        token = cachedProvider.generateAccessToken(1L, "user1@example.com", "유저1");
+        cachedProvider.verify(token);
+    }
+
+    @Benchmark
+    public Map<String, Object> legacy() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        Claims c = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return Map.of(
+                "id", Long.valueOf(c.getSubject()),
+                "email", c.get("email", String.class),
+                "userName", c.get("userName", String.class),
+                "role", c.getOrDefault("role", "ROLE_USER")
+        );
+    }
+
+    @Benchmark
+    public Optional<JwtClaims> sharedParser() {
+        return uncachedProvider.verify(token);
+    }
+
+    @Benchmark
+    public Optional<JwtClaims> cached() {
+        return cachedProvider.verify(token);
+    }
+}
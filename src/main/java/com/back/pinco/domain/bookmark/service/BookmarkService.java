@@ -7,6 +7,7 @@ import com.back.pinco.domain.pin.entity.Pin;
 import com.back.pinco.domain.pin.service.PinService;
 import com.back.pinco.domain.user.entity.User;
 import com.back.pinco.domain.user.repository.UserRepository;
+import com.back.pinco.domain.user.service.UserStatsService;
 import com.back.pinco.global.exception.ErrorCode;
 import com.back.pinco.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +24,7 @@ public class BookmarkService {
     private final BookmarkRepository bookmarkRepository;
     private final UserRepository userRepository;
     private final PinService pinService;
+    private final UserStatsService userStatsService;
 
     /**
      * 북마크 추가
@@ -48,6 +50,7 @@ public class BookmarkService {
                 .orElseGet(() -> new Bookmark(user, pin));
 
         Bookmark savedBookmark = bookmarkRepository.save(bookmark);
+        userStatsService.addBookmarkCount(userId, 1);
 
         return new BookmarkDto(savedBookmark);
     }
@@ -86,12 +89,17 @@ public class BookmarkService {
             throw new ServiceException(ErrorCode.BOOKMARK_NOT_FOUND);
         }
 
+        boolean wasActive = !bookmark.getDeleted();
         try {
             bookmark.setDeleted();
             bookmarkRepository.save(bookmark);
         } catch (Exception e) {
             throw new ServiceException(ErrorCode.BOOKMARK_DELETE_FAILED);
         }
+
+        if (wasActive) {
+            userStatsService.addBookmarkCount(userId, -1);
+        }
     }
 
     /**
@@ -113,12 +121,17 @@ public class BookmarkService {
             throw new ServiceException(ErrorCode.BOOKMARK_NOT_FOUND);
         }
 
+        boolean wasDeleted = bookmark.getDeleted();
         try {
             bookmark.restore();
             bookmarkRepository.save(bookmark);
         } catch (Exception e) {
             throw new ServiceException(ErrorCode.BOOKMARK_RESTORE_FAILED);
         }
+
+        if (wasDeleted) {
+            userStatsService.addBookmarkCount(user.getId(), 1);
+        }
     }
 
 
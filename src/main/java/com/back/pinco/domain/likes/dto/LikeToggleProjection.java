@@ -0,0 +1,14 @@
+package com.back.pinco.domain.likes.dto;
+
+/**
+ * 좋아요 등록/취소 단일 쿼리 결과 (native query projection)
+ */
+public interface LikeToggleProjection {
+    Boolean getUserExists();    // 사용자 존재 여부
+
+    Boolean getAccessible();    // 좋아요 가능한 핀 여부 (삭제되지 않고 본인 핀이거나 공개 핀)
+
+    Boolean getChanged();       // 실제로 등록/취소되었는지 (이미 같은 상태였으면 false)
+
+    Integer getLikeCount();     // pins.like_count
+}
@@ -0,0 +1,16 @@
+package com.back.pinco.domain.likes.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 좋아요 일괄 처리 요청의 개별 작업
+ * @param pinId 대상 핀 ID
+ * @param liked true 면 좋아요 등록, false 면 취소
+ */
+public record PinLikeOperation(
+        @NotNull
+        Long pinId,
+        @NotNull
+        Boolean liked
+) {
+}
@@ -0,0 +1,14 @@
+package com.back.pinco.domain.likes.dto;
+
+/**
+ * 핀별 좋아요 상태 응답 DTO
+ * @param pinId 핀 ID
+ * @param isLiked 사용자의 좋아요 여부
+ * @param likeCount 해당 핀의 총 좋아요 개수
+ */
+public record PinLikeStatusResponse(
+        Long pinId,
+        boolean isLiked,
+        int likeCount
+) {
+}
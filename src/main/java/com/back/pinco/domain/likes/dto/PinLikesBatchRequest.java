@@ -0,0 +1,18 @@
+package com.back.pinco.domain.likes.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 좋아요 일괄 처리 요청 DTO (오프라인에서 쌓인 좋아요/취소 재전송용)
+ * @param operations 발생 순서대로의 작업 목록 (같은 핀은 마지막 작업만 반영)
+ */
+public record PinLikesBatchRequest(
+        @NotEmpty
+        @Size(max = 500)
+        List<@Valid PinLikeOperation> operations
+) {
+}
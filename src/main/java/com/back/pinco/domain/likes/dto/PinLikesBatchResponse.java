@@ -0,0 +1,14 @@
+package com.back.pinco.domain.likes.dto;
+
+import java.util.List;
+
+/**
+ * 좋아요 일괄 처리 응답 DTO
+ * @param results 반영된 핀별 좋아요 상태
+ * @param skippedPinIds 삭제되었거나 접근할 수 없어 건너뛴 핀 ID
+ */
+public record PinLikesBatchResponse(
+        List<PinLikeStatusResponse> results,
+        List<Long> skippedPinIds
+) {
+}
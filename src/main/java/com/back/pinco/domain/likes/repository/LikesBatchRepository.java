@@ -0,0 +1,94 @@
+package com.back.pinco.domain.likes.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좋아요 일괄 처리용 JDBC 저장소 (JDBC batch 로 한 번에 전송)
+ */
+@Repository
+@RequiredArgsConstructor
+public class LikesBatchRepository {
+
+    // 이미 좋아요한 핀은 uk_like_user_pin 충돌로 건너뜀
+    private static final String INSERT_LIKE =
+            "INSERT INTO likes (like_id, pin_id, user_id, create_at, create_by, modified_at, modified_by) " +
+                    "VALUES (nextval('like_seq'), :pinId, :userId, :now, 0, :now, 0) " +
+                    "ON CONFLICT ON CONSTRAINT uk_like_user_pin DO NOTHING";
+
+    private static final String DELETE_LIKE =
+            "DELETE FROM likes WHERE pin_id = :pinId AND user_id = :userId";
+
+    private static final String ACCESSIBLE_PIN_IDS =
+            "SELECT p.pin_id FROM pins p " +
+                    "WHERE p.pin_id IN (:pinIds) " +
+                    "AND p.is_deleted = false " +
+                    "AND (p.user_id = :userId OR p.is_public = true)";
+
+    private static final String LIKE_COUNTS =
+            "SELECT p.pin_id, p.like_count FROM pins p WHERE p.pin_id IN (:pinIds)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // 좋아요 가능한 핀 ID (삭제되지 않고 본인 핀이거나 공개 핀)
+    public List<Long> findAccessiblePinIds(Collection<Long> pinIds, Long userId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("pinIds", pinIds)
+                .addValue("userId", userId);
+        return jdbcTemplate.queryForList(ACCESSIBLE_PIN_IDS, params, Long.class);
+    }
+
+    // 실제로 새로 등록된 핀 ID 반환
+    public List<Long> insertAll(Collection<Long> pinIds, Long userId, LocalDateTime now) {
+        return executeBatch(INSERT_LIKE, pinIds, userId, now);
+    }
+
+    // 실제로 취소된 핀 ID 반환
+    public List<Long> deleteAll(Collection<Long> pinIds, Long userId) {
+        return executeBatch(DELETE_LIKE, pinIds, userId, null);
+    }
+
+    public Map<Long, Integer> findLikeCounts(Collection<Long> pinIds) {
+        Map<Long, Integer> likeCounts = new HashMap<>();
+        jdbcTemplate.query(
+                LIKE_COUNTS,
+                new MapSqlParameterSource("pinIds", pinIds),
+                rs -> {
+                    likeCounts.put(rs.getLong("pin_id"), rs.getInt("like_count"));
+                }
+        );
+        return likeCounts;
+    }
+
+    private List<Long> executeBatch(String sql, Collection<Long> pinIds, Long userId, LocalDateTime now) {
+        if (pinIds.isEmpty()) return List.of();
+
+        List<Long> ids = new ArrayList<>(pinIds);
+        SqlParameterSource[] batch = ids.stream()
+                .map(pinId -> new MapSqlParameterSource()
+                        .addValue("pinId", pinId)
+                        .addValue("userId", userId)
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new);
+
+        int[] updated = jdbcTemplate.batchUpdate(sql, batch);
+
+        List<Long> changed = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] > 0) {
+                changed.add(ids.get(i));
+            }
+        }
+        return changed;
+    }
+}
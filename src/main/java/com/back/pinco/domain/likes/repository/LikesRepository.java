@@ -1,5 +1,6 @@
 package com.back.pinco.domain.likes.repository;
 
+import com.back.pinco.domain.likes.dto.LikeToggleProjection;
 import com.back.pinco.domain.likes.entity.Likes;
 import com.back.pinco.domain.pin.entity.Pin;
 import com.back.pinco.domain.user.entity.User;
@@ -8,13 +9,99 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LikesRepository extends JpaRepository<Likes, Long> {
 
+    /* 좋아요 등록/취소를 한 번의 왕복으로 처리하는 CTE 조각들
+     * u: 사용자, target: 좋아요 가능한 핀, changed: 실제로 등록/취소된 행, counted: 갱신된 like_count */
+    String TOGGLE_TARGET = """
+        WITH u AS (
+            SELECT us.user_id FROM users us WHERE us.user_id = :userId
+        ),
+        target AS (
+            SELECT p.pin_id FROM pins p
+            WHERE p.pin_id = :pinId
+              AND p.is_deleted = false
+              AND (p.user_id = :userId OR p.is_public = true)
+        ),
+        """;
+
+    // 이미 좋아요한 경우 uk_like_user_pin 충돌로 아무것도 하지 않음 (동시 클릭에도 안전)
+    String LIKE_INSERT = """
+        changed AS (
+            INSERT INTO likes (like_id, pin_id, user_id, create_at, create_by, modified_at, modified_by)
+            SELECT nextval('like_seq'), t.pin_id, u.user_id, :now, 0, :now, 0
+            FROM target t CROSS JOIN u
+            ON CONFLICT ON CONSTRAINT uk_like_user_pin DO NOTHING
+            RETURNING pin_id
+        ),
+        """;
+
+    String LIKE_DELETE = """
+        changed AS (
+            DELETE FROM likes l
+            USING target t, u
+            WHERE l.pin_id = t.pin_id AND l.user_id = u.user_id
+            RETURNING l.pin_id
+        ),
+        """;
+
+    String COUNT_INCREMENT = """
+        counted AS (
+            UPDATE pins p SET like_count = p.like_count + 1
+            WHERE p.pin_id IN (SELECT c.pin_id FROM changed c)
+            RETURNING p.like_count
+        )
+        """;
+
+    String COUNT_DECREMENT = """
+        counted AS (
+            UPDATE pins p SET like_count = p.like_count - 1
+            WHERE p.pin_id IN (SELECT c.pin_id FROM changed c)
+            RETURNING p.like_count
+        )
+        """;
+
+    // write-behind 사용 시 like_count 는 LikeCountBuffer 가 반영
+    String COUNT_UNCHANGED = """
+        counted AS (
+            SELECT CAST(NULL AS integer) AS like_count WHERE false
+        )
+        """;
+
+    // CTE 안의 UPDATE 결과는 같은 문장의 pins 조회에 보이지 않으므로 counted 를 우선 사용
+    String TOGGLE_RESULT = """
+        SELECT EXISTS (SELECT 1 FROM u) AS "userExists",
+               EXISTS (SELECT 1 FROM target) AS "accessible",
+               EXISTS (SELECT 1 FROM changed) AS "changed",
+               COALESCE(
+                   (SELECT c.like_count FROM counted c),
+                   (SELECT p.like_count FROM pins p WHERE p.pin_id = :pinId)
+               ) AS "likeCount"
+        """;
+
+    @Transactional
+    @Query(value = TOGGLE_TARGET + LIKE_INSERT + COUNT_INCREMENT + TOGGLE_RESULT, nativeQuery = true)
+    LikeToggleProjection insertLikeAndIncrement(@Param("pinId") Long pinId, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Query(value = TOGGLE_TARGET + LIKE_INSERT + COUNT_UNCHANGED + TOGGLE_RESULT, nativeQuery = true)
+    LikeToggleProjection insertLike(@Param("pinId") Long pinId, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Query(value = TOGGLE_TARGET + LIKE_DELETE + COUNT_DECREMENT + TOGGLE_RESULT, nativeQuery = true)
+    LikeToggleProjection deleteLikeAndDecrement(@Param("pinId") Long pinId, @Param("userId") Long userId);
+
+    @Transactional
+    @Query(value = TOGGLE_TARGET + LIKE_DELETE + COUNT_UNCHANGED + TOGGLE_RESULT, nativeQuery = true)
+    LikeToggleProjection deleteLike(@Param("pinId") Long pinId, @Param("userId") Long userId);
+
     /** 특정 핀에 대해 특정 사용자의 좋아요 엔티티 조회 */
     @Query("SELECT l FROM Likes l WHERE l.pin.id = :pinId AND l.user.id = :userId")
     Optional<Likes> findByPinIdAndUserId(@Param("pinId") Long pinId, @Param("userId") Long userId);
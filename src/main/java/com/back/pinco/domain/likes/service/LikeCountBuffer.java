@@ -0,0 +1,171 @@
+package com.back.pinco.domain.likes.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntSupplier;
+
+/**
+ * 핀별 좋아요 수 변화량(delta) 버퍼 (write-behind)
+ * - 트랜잭션 안에서 쌓인 delta 는 커밋된 뒤에만 공용 버퍼로 합쳐짐 (롤백 시 버림)
+ * - 공용 버퍼는 핀별 LongAdder 로 누적, LikeCountFlusher 가 주기적으로 비워 pins.like_count 에 반영
+ * - delta 를 쌓는 트랜잭션은 시작할 때 공유 advisory lock 을 잡고, 재계산은 같은 키의 배타 lock 을 잡음
+ *   잠금은 모두 DB 에서 대기하므로 행 잠금과 엇갈려도 Postgres 가 교착을 감지함 (JVM 잠금을 쥔 채 DB 를 기다리지 않음)
+ */
+@Component
+public class LikeCountBuffer {
+
+    // 좋아요 수 재계산과 delta 트랜잭션이 공유하는 advisory lock 키 ('like')
+    private static final long RECOUNT_LOCK_KEY = 0x6c696b65L;
+
+    private final boolean enabled;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 누적 중에는 read lock(동시 누적 허용), 버퍼 교체 시에만 write lock (메모리 작업만 감쌈)
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private ConcurrentHashMap<Long, LongAdder> deltas = new ConcurrentHashMap<>();
+
+    // DB 커밋은 시작했지만 아직 delta 를 버퍼에 합치지 않은 트랜잭션 수
+    private final AtomicInteger committing = new AtomicInteger();
+
+    public LikeCountBuffer(
+            @Value("${custom.likes.write-behind.enabled:false}") boolean enabled,
+            JdbcTemplate jdbcTemplate
+    ) {
+        this.enabled = enabled;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 현재 트랜잭션을 재계산과 직렬화 (행 잠금보다 먼저 호출, 잠금은 트랜잭션이 끝나면 DB 가 해제)
+    public void joinTransaction() {
+        if (enabled && TransactionSynchronizationManager.isActualTransactionActive()) {
+            transactionDeltas();
+        }
+    }
+
+    // 현재 트랜잭션이 커밋되면 delta 반영 (트랜잭션 밖이면 즉시 반영)
+    public void add(Long pinId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            addCommitted(pinId, delta);
+            return;
+        }
+        transactionDeltas().merge(pinId, delta, Long::sum);
+    }
+
+    // 아직 DB 에 반영되지 않은 delta (커밋된 버퍼 + 현재 트랜잭션에서 쌓인 값)
+    public long pending(Long pinId) {
+        long pending = 0;
+        LongAdder adder = deltas.get(pinId);
+        if (adder != null) {
+            pending += adder.sum();
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            @SuppressWarnings("unchecked")
+            Map<Long, Long> local = (Map<Long, Long>) TransactionSynchronizationManager.getResource(this);
+            if (local != null) {
+                pending += local.getOrDefault(pinId, 0L);
+            }
+        }
+        return pending;
+    }
+
+    // 버퍼를 새 것으로 교체하고 지금까지 쌓인 delta 를 반환 (0 인 항목 제외)
+    public Map<Long, Long> drain() {
+        ConcurrentHashMap<Long, LongAdder> drained;
+        lock.writeLock().lock();
+        try {
+            drained = deltas;
+            deltas = new ConcurrentHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Long, Long> result = new HashMap<>();
+        drained.forEach((pinId, adder) -> {
+            long sum = adder.sum();
+            if (sum != 0) {
+                result.put(pinId, sum);
+            }
+        });
+        return result;
+    }
+
+    // DB 반영에 실패한 delta 를 버퍼에 되돌림
+    public void restore(Map<Long, Long> drained) {
+        drained.forEach(this::addCommitted);
+    }
+
+    // 버퍼를 비우고 likes 테이블 기준 재계산을 실행 (호출하는 쪽의 트랜잭션 안에서)
+    // 배타 advisory lock 을 잡으면 그 전에 시작한 delta 트랜잭션은 모두 DB 커밋/롤백을 마친 상태이고,
+    // 커밋 후 버퍼에 합치는 짧은 구간(메모리 작업)만 기다리면 재계산에 포함된 좋아요의 delta 는 모두 버릴 버퍼에 있음
+    // 새 delta 트랜잭션은 이 트랜잭션이 끝날 때까지 공유 lock 에서 대기하므로 재계산 이후의 delta 만 새 버퍼에 쌓임
+    public int discardAndRecount(IntSupplier recount) {
+        jdbcTemplate.queryForObject("SELECT 1 FROM pg_advisory_xact_lock(?)", Integer.class, RECOUNT_LOCK_KEY);
+        while (committing.get() > 0) {
+            Thread.onSpinWait();
+        }
+        drain();
+        return recount.getAsInt();
+    }
+
+    private void addCommitted(Long pinId, long delta) {
+        lock.readLock().lock();
+        try {
+            deltas.computeIfAbsent(pinId, id -> new LongAdder()).add(delta);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 트랜잭션별 delta 맵 (처음 사용할 때 바인딩과 공유 advisory lock, 커밋/롤백 후 해제)
+    private Map<Long, Long> transactionDeltas() {
+        @SuppressWarnings("unchecked")
+        Map<Long, Long> local = (Map<Long, Long>) TransactionSynchronizationManager.getResource(this);
+        if (local != null) {
+            return local;
+        }
+
+        Map<Long, Long> created = new HashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean counted;
+
+            // 커밋 직전부터 버퍼에 합칠 때까지를 재계산이 기다릴 수 있도록 표시
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                committing.incrementAndGet();
+                counted = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(LikeCountBuffer.this);
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        created.forEach(LikeCountBuffer.this::addCommitted);
+                    }
+                } finally {
+                    if (counted) {
+                        committing.decrementAndGet();
+                    }
+                }
+            }
+        });
+        jdbcTemplate.queryForObject("SELECT 1 FROM pg_advisory_xact_lock_shared(?)", Integer.class, RECOUNT_LOCK_KEY);
+        return created;
+    }
+}
@@ -0,0 +1,61 @@
+package com.back.pinco.domain.likes.service;
+
+import com.back.pinco.domain.pin.repository.PinRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LikeCountBuffer 에 쌓인 좋아요 delta 를 pins.like_count 에 일괄 반영
+ * - flush: 주기적으로 버퍼를 비워 UPDATE 한 번으로 반영 (실패 시 버퍼에 되돌림)
+ * - reconcile: 기동 시와 주기적으로 likes 테이블 기준으로 전체 재계산 (비정상 종료로 잃은 delta 복구)
+ *   버퍼 비우기와 재계산은 advisory lock 을 잡은 한 DB 트랜잭션에서 실행 (그 사이 커밋된 delta 가 이중 반영되지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LikeCountFlusher {
+
+    private final LikeCountBuffer likeCountBuffer;
+    private final PinRepository pinRepository;
+
+    @Scheduled(
+            fixedDelayString = "${custom.likes.write-behind.flush-interval-ms:1000}",
+            initialDelayString = "${custom.likes.write-behind.flush-interval-ms:1000}"
+    )
+    public synchronized void flush() {
+        if (!likeCountBuffer.isEnabled()) return;
+
+        Map<Long, Long> drained = likeCountBuffer.drain();
+        if (drained.isEmpty()) return;
+
+        // 핀 ID 순으로 갱신해 동시 갱신 시 교착 방지
+        List<Long> pinIds = drained.keySet().stream().sorted().toList();
+        Long[] deltas = pinIds.stream().map(drained::get).toArray(Long[]::new);
+
+        try {
+            pinRepository.addLikeCountDeltas(pinIds.toArray(Long[]::new), deltas);
+        } catch (Exception e) {
+            log.warn("좋아요 수 반영 실패, 다음 주기에 재시도합니다. pins={}", pinIds.size(), e);
+            likeCountBuffer.restore(drained);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${custom.likes.write-behind.reconcile-cron:0 0 4 * * *}")
+    @Transactional
+    public synchronized void reconcile() {
+        if (!likeCountBuffer.isEnabled()) return;
+
+        // 재계산 결과에 이미 포함되므로 버퍼에 남은 delta 는 버림
+        int updated = likeCountBuffer.discardAndRecount(pinRepository::refreshAllLikeCounts);
+        log.info("좋아요 수 재계산 완료. 보정된 핀 수={}", updated);
+    }
+}
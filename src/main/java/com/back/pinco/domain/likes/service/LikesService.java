@@ -1,14 +1,18 @@
 package com.back.pinco.domain.likes.service;
 
+import com.back.pinco.domain.likes.dto.LikeToggleProjection;
+import com.back.pinco.domain.likes.dto.PinLikeOperation;
+import com.back.pinco.domain.likes.dto.PinLikeStatusResponse;
 import com.back.pinco.domain.likes.dto.PinLikedUserResponse;
+import com.back.pinco.domain.likes.dto.PinLikesBatchResponse;
 import com.back.pinco.domain.likes.dto.PinLikesResponse;
 import com.back.pinco.domain.likes.dto.PinsLikedByUserResponse;
-import com.back.pinco.domain.likes.entity.Likes;
+import com.back.pinco.domain.likes.repository.LikesBatchRepository;
 import com.back.pinco.domain.likes.repository.LikesRepository;
 import com.back.pinco.domain.pin.entity.Pin;
 import com.back.pinco.domain.pin.repository.PinRepository;
-import com.back.pinco.domain.user.entity.User;
 import com.back.pinco.domain.user.repository.UserRepository;
+import com.back.pinco.domain.user.service.UserStatsService;
 import com.back.pinco.global.exception.ErrorCode;
 import com.back.pinco.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
@@ -16,7 +20,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -24,8 +37,11 @@ import java.util.List;
 public class LikesService {
 
     private final LikesRepository likesRepository;
+    private final LikesBatchRepository likesBatchRepository;
     private final PinRepository pinRepository;
     private final UserRepository userRepository;
+    private final LikeCountBuffer likeCountBuffer;
+    private final UserStatsService userStatsService;
 
 
     // 특정 핀에 대한 좋아요 수 조회
@@ -35,61 +51,132 @@ public class LikesService {
     }
 
 
-    // 좋아요 등록
+    // 좋아요 등록 (이미 좋아요한 핀이면 현재 상태 그대로 반환)
     @Transactional
     public PinLikesResponse toggleLikeOn(Long pinId, Long userId) {
-        User user = validateUser(userId);
-        Pin pin = validatePin(pinId, userId);
-
-        saveLike(pin, user);
-        int likeCount = refreshPinLikeCount(pinId);
-
-        return new PinLikesResponse(true, likeCount);
-    }
-
-    private Likes saveLike(Pin pin, User user) {
+        likeCountBuffer.joinTransaction();    // 좋아요 수 재계산과 직렬화 (행 잠금 전에)
+        LikeToggleProjection result;
         try {
-            return likesRepository.save(new Likes(pin, user));
+            result = likeCountBuffer.isEnabled()
+                    ? likesRepository.insertLike(pinId, userId, LocalDateTime.now())
+                    : likesRepository.insertLikeAndIncrement(pinId, userId, LocalDateTime.now());
         } catch (Exception e) {
             throw new ServiceException(ErrorCode.LIKES_CREATE_FAILED);
         }
+
+        return toLikesResponse(pinId, true, result);
     }
 
 
-    // 좋아요 취소
+    // 좋아요 취소 (좋아요하지 않은 핀이면 현재 상태 그대로 반환)
     @Transactional
     public PinLikesResponse toggleLikeOff(Long pinId, Long userId) {
-        User user = validateUser(userId);
-        Pin pin = validatePin(pinId, userId);
+        likeCountBuffer.joinTransaction();    // 좋아요 수 재계산과 직렬화 (행 잠금 전에)
+        LikeToggleProjection result;
+        try {
+            result = likeCountBuffer.isEnabled()
+                    ? likesRepository.deleteLike(pinId, userId)
+                    : likesRepository.deleteLikeAndDecrement(pinId, userId);
+        } catch (Exception e) {
+            throw new ServiceException(ErrorCode.LIKES_REVOKE_FAILED);
+        }
+
+        return toLikesResponse(pinId, false, result);
+    }
+
+    private PinLikesResponse toLikesResponse(Long pinId, boolean liked, LikeToggleProjection result) {
+        if (!result.getUserExists()) {
+            throw new ServiceException(ErrorCode.LIKES_INVALID_USER_INPUT);
+        }
+        if (!result.getAccessible()) {
+            throw new ServiceException(ErrorCode.LIKES_INVALID_PIN_INPUT);
+        }
 
-        deleteLike(pin, user);
-        int likeCount = refreshPinLikeCount(pinId);
+        if (result.getChanged()) {
+            userStatsService.addLikesReceived(pinId, liked ? 1 : -1);
+        }
 
-        return new PinLikesResponse(false, likeCount);
+        int likeCount = result.getLikeCount();
+        // write-behind 사용 시 delta 만 버퍼에 쌓고 (DB 값 + 미반영 delta) 를 반환
+        if (likeCountBuffer.isEnabled()) {
+            if (result.getChanged()) {
+                likeCountBuffer.add(pinId, liked ? 1 : -1);
+            }
+            likeCount += (int) likeCountBuffer.pending(pinId);
+        }
+
+        return new PinLikesResponse(liked, likeCount);
     }
 
-    private void deleteLike(Pin pin, User user) {
-        Likes likes = likesRepository.findByPinIdAndUserId(pin.getId(), user.getId())
-                .orElseThrow(() -> new ServiceException(ErrorCode.LIKES_NOT_FOUND));
 
+    // 좋아요/취소 일괄 반영 (같은 핀은 마지막 작업만 반영, 접근 불가 핀은 건너뜀)
+    @Transactional
+    public PinLikesBatchResponse applyLikeOperations(Long userId, List<PinLikeOperation> operations) {
+        likeCountBuffer.joinTransaction();    // 좋아요 수 재계산과 직렬화 (행 잠금 전에)
+        Map<Long, Boolean> lastOperations = new LinkedHashMap<>();
+        operations.forEach(op -> {
+            lastOperations.remove(op.pinId());
+            lastOperations.put(op.pinId(), op.liked());
+        });
+
+        Set<Long> accessiblePinIds = new HashSet<>(
+                likesBatchRepository.findAccessiblePinIds(lastOperations.keySet(), userId)
+        );
+
+        List<Long> likePinIds = new ArrayList<>();
+        List<Long> unlikePinIds = new ArrayList<>();
+        List<Long> skippedPinIds = new ArrayList<>();
+        lastOperations.forEach((pinId, liked) -> {
+            if (!accessiblePinIds.contains(pinId)) {
+                skippedPinIds.add(pinId);
+            } else if (liked) {
+                likePinIds.add(pinId);
+            } else {
+                unlikePinIds.add(pinId);
+            }
+        });
+
+        if (accessiblePinIds.isEmpty()) {
+            return new PinLikesBatchResponse(List.of(), skippedPinIds);
+        }
+
+        List<Long> likedPinIds;
+        List<Long> unlikedPinIds;
         try {
-            likesRepository.delete(likes);
+            likedPinIds = likesBatchRepository.insertAll(likePinIds, userId, LocalDateTime.now());
+            unlikedPinIds = likesBatchRepository.deleteAll(unlikePinIds, userId);
         } catch (Exception e) {
-            throw new ServiceException(ErrorCode.LIKES_REVOKE_FAILED);
+            throw new ServiceException(ErrorCode.LIKES_UPDATE_PIN_FAILED);
         }
-    }
 
+        // 실제로 바뀐 핀만 좋아요 수 반영
+        Map<Long, Long> deltasByPinId = new HashMap<>();
+        likedPinIds.forEach(pinId -> deltasByPinId.put(pinId, 1L));
+        unlikedPinIds.forEach(pinId -> deltasByPinId.put(pinId, -1L));
+        userStatsService.addLikesReceived(deltasByPinId);
+
+        if (likeCountBuffer.isEnabled()) {
+            likedPinIds.forEach(pinId -> likeCountBuffer.add(pinId, 1));
+            unlikedPinIds.forEach(pinId -> likeCountBuffer.add(pinId, -1));
+        } else if (!likedPinIds.isEmpty() || !unlikedPinIds.isEmpty()) {
+            pinRepository.refreshLikeCountBatch(
+                    Stream.concat(likedPinIds.stream(), unlikedPinIds.stream()).toArray(Long[]::new)
+            );
+        }
 
-    private Pin validatePin(Long pinId, Long userId) {
-        Pin pin = pinRepository.findAccessiblePinById(pinId, userId)
-                .orElseThrow(() -> new ServiceException(ErrorCode.LIKES_INVALID_PIN_INPUT));
-        return pin;
-    }
+        Map<Long, Integer> likeCounts = likesBatchRepository.findLikeCounts(accessiblePinIds);
+        List<PinLikeStatusResponse> results = new ArrayList<>();
+        lastOperations.forEach((pinId, liked) -> {
+            if (!accessiblePinIds.contains(pinId)) return;
+
+            int likeCount = likeCounts.getOrDefault(pinId, 0);
+            if (likeCountBuffer.isEnabled()) {
+                likeCount += (int) likeCountBuffer.pending(pinId);
+            }
+            results.add(new PinLikeStatusResponse(pinId, liked, likeCount));
+        });
 
-    private User validateUser(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ServiceException(ErrorCode.LIKES_INVALID_USER_INPUT));
-        return user;
+        return new PinLikesBatchResponse(results, skippedPinIds);
     }
 
 
@@ -132,6 +219,7 @@ public class LikesService {
     // 탈퇴한 사용자의 좋아요 삭제
     @Transactional
     public void deleteWithdrawnUserLikes(Long userId) {
+        likeCountBuffer.joinTransaction();    // 좋아요 수 재계산과 직렬화 (핀 행 잠금 전에 호출되어야 함, UserService.delete 참고)
         // 핀 조회 : 좋아요 갱신을 위해 -> 비 효율적?
         List<Pin> likedPinsList = likesRepository.findPinsByUserId(userId);
 
@@ -139,6 +227,14 @@ public class LikesService {
 
         try {
             likesRepository.deleteAllByUserId(userId);
+            userStatsService.addLikesReceived(
+                    likedPinsList.stream().collect(Collectors.toMap(Pin::getId, pin -> -1L))
+            );
+
+            if (likeCountBuffer.isEnabled()) {
+                likedPinsList.forEach(pin -> likeCountBuffer.add(pin.getId(), -1));
+                return;
+            }
 
             Long[] pinsId = likedPinsList.stream()
                     .map(Pin::getId)
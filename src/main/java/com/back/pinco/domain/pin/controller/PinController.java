@@ -6,12 +6,19 @@ import com.back.pinco.domain.bookmark.service.BookmarkService;
 import com.back.pinco.domain.likes.dto.*;
 import com.back.pinco.domain.likes.service.LikesService;
 import com.back.pinco.domain.pin.dto.CreatePinRequest;
+import com.back.pinco.domain.pin.dto.PinCellCount;
+import com.back.pinco.domain.pin.dto.PinClusterDto;
+import com.back.pinco.domain.pin.dto.PinDistanceDto;
 import com.back.pinco.domain.pin.dto.PinDto;
+import com.back.pinco.domain.pin.dto.PinPageResponse;
 import com.back.pinco.domain.pin.dto.UpdatePinContentRequest;
+import com.back.pinco.domain.pin.dto.VersionedPins;
 import com.back.pinco.domain.pin.entity.Pin;
 import com.back.pinco.domain.pin.service.PinService;
 import com.back.pinco.domain.user.entity.User;
 import com.back.pinco.domain.user.service.UserService;
+import com.back.pinco.global.exception.ErrorCode;
+import com.back.pinco.global.exception.ServiceException;
 import com.back.pinco.global.rq.Rq;
 import com.back.pinco.global.rsData.RsData;
 import io.swagger.v3.oas.annotations.Operation;
@@ -21,17 +28,35 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Tag(name = "Pin", description = "pin(장소) 관리 기능")
 @RestController
+@Validated    // @RequestParam / @PathVariable 의 @Min, @Max 검증 (위반 시 GlobalExceptionHandler 에서 400)
 @RequiredArgsConstructor
 @RequestMapping("/api/pins")
 public class PinController {
 
+    private static final MediaType MVT_MEDIA_TYPE = MediaType.parseMediaType("application/vnd.mapbox-vector-tile");
+
+    private static final long TILE_MAX_AGE_SECONDS = 60;
+
+    // ETag 조회 응답: 저장은 하되 매번 If-None-Match 로 재검증 (Spring Security 기본값 no-store 를 대신함)
+    private static final String REVALIDATE_CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    // 페이지 없는 목록 조회가 MAX_LIST_SIZE 개에서 잘렸을 때 "true" (나머지는 커서 페이지 조회로)
+    public static final String TRUNCATED_HEADER = "X-Result-Truncated";
+
     private final PinService pinService;
 
     private final UserService userService;
@@ -75,7 +100,7 @@ public class PinController {
         );
     }
     //범위로 조회 - 원
-    @Operation(summary = "핀 조회 - 다건 (범위)", description = "범위로 핀을 다건 조회")
+    @Operation(summary = "핀 조회 - 다건 (범위)", description = "범위로 핀을 다건 조회 (tags 를 주면 모든 태그가 달린 핀만, pin_id 순 최대 " + PinService.MAX_LIST_SIZE + "개이며 넘으면 X-Result-Truncated: true)")
     @GetMapping
     public RsData<List<PinDto>> getRadiusPins(
             @NotNull
@@ -86,14 +111,18 @@ public class PinController {
             @Min(-180)
             @Max(180)
             @RequestParam double longitude,
-            @RequestParam(defaultValue = "1000.0") double radius
+            @RequestParam(defaultValue = "1000.0") double radius,
+            @RequestParam(required = false) List<String> tags,
+            WebRequest webRequest
     ) {
         User actor = rq.getActor();
-        List<Pin> pins = pinService.findNearPins(latitude, longitude, radius, actor);
-
-        List<PinDto> pinDtos = pins.stream()
-                .map(PinDto::new)
-                .collect(Collectors.toList());
+        rq.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE_CACHE_CONTROL);
+        // 같은 범위를 다시 조회할 때 결과가 그대로면 목록 조회와 직렬화 없이 304
+        VersionedPins result = pinService.findNearPinsVersioned(latitude, longitude, radius, tags, actor);
+        if (webRequest.checkNotModified(result.version())) {
+            return null;
+        }
+        List<PinDto> pinDtos = capped(result.pins().get());
 
         return new RsData<>(
                 "200",
@@ -102,10 +131,85 @@ public class PinController {
         );
     }
 
+    //가까운 순으로 조회
+    @Operation(summary = "핀 조회 - 가까운 순 (limit)", description = "기준 좌표 반경(최대 50km) 안에서 가까운 핀을 거리와 함께 limit 개 조회")
+    @GetMapping("/nearest")
+    public RsData<List<PinDistanceDto>> getNearestPins(
+            @NotNull
+            @Min(-90)
+            @Max(90)
+            @RequestParam double latitude,
+            @NotNull
+            @Min(-180)
+            @Max(180)
+            @RequestParam double longitude,
+            @Min(0)
+            @Max(50000)
+            @RequestParam(defaultValue = "50000.0") double radius,
+            @RequestParam(required = false) Integer limit
+    ) {
+        User actor = rq.getActor();
+        return new RsData<>(
+                "200",
+                "성공적으로 처리되었습니다",
+                pinService.findNearestPins(latitude, longitude, radius, limit, actor)
+        );
+    }
+
+    //인기 핀 조회 - 반경 내 좋아요 상위
+    @Operation(summary = "핀 조회 - 인기 순 (k)", description = "기준 좌표 반경 내 공개 핀 중 좋아요가 많은 순으로 k 개 조회 (주기적으로 갱신되는 랭킹 기준)")
+    @GetMapping("/popular")
+    public RsData<List<PinDto>> getPopularPins(
+            @NotNull
+            @Min(-90)
+            @Max(90)
+            @RequestParam double latitude,
+            @NotNull
+            @Min(-180)
+            @Max(180)
+            @RequestParam double longitude,
+            @Min(0)
+            @Max(50000)
+            @RequestParam(defaultValue = "1000.0") double radius,
+            @RequestParam(required = false) Integer k
+    ) {
+        return new RsData<>(
+                "200",
+                "성공적으로 처리되었습니다",
+                pinService.findPopularPins(latitude, longitude, radius, k)
+        );
+    }
+
+    //범위로 조회 - 원 (커서 페이지)
+    @Operation(summary = "핀 조회 - 페이지 (범위)", description = "범위 내 핀을 pin_id 커서 기반으로 페이지 조회")
+    @GetMapping("/page")
+    public RsData<PinPageResponse> getRadiusPinsPage(
+            @NotNull
+            @Min(-90)
+            @Max(90)
+            @RequestParam double latitude,
+            @NotNull
+            @Min(-180)
+            @Max(180)
+            @RequestParam double longitude,
+            @Min(0)
+            @Max(50000)    // 반경이 너무 크면 ST_DWithin 이 테이블 전체를 훑으므로 제한 (인기 핀 조회와 동일)
+            @RequestParam(defaultValue = "1000.0") double radius,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        User actor = rq.getActor();
+        return new RsData<>(
+                "200",
+                "성공적으로 처리되었습니다",
+                pinService.findNearPinsPage(latitude, longitude, radius, actor, cursor, size)
+        );
+    }
+
     //범위로 조회 - 사각형
 
 
-@Operation(summary = "핀 조회 - 다건 (범위-사각형)", description = "범위로 핀을 다건 조회")
+@Operation(summary = "핀 조회 - 다건 (범위-사각형)", description = "범위로 핀을 다건 조회 (tags 를 주면 모든 태그가 달린 핀만, pin_id 순 최대 " + PinService.MAX_LIST_SIZE + "개이며 넘으면 X-Result-Truncated: true)")
 @GetMapping("/screen")
 public RsData<List<PinDto>> getRectanglePins(
         @NotNull
@@ -123,15 +227,17 @@ public RsData<List<PinDto>> getRectanglePins(
         @NotNull
         @Min(-180)
         @Max(180)
-        @RequestParam double lonMin
-
+        @RequestParam double lonMin,
+        @RequestParam(required = false) List<String> tags,
+        WebRequest webRequest
 ) {
     User actor = rq.getActor();
-    List<Pin> pins = pinService.findScreenPins(latMax, lonMax, latMin, lonMin, actor);
-
-    List<PinDto> pinDtos = pins.stream()
-            .map(PinDto::new)
-            .collect(Collectors.toList());
+    rq.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE_CACHE_CONTROL);
+    VersionedPins result = pinService.findScreenPinsVersioned(latMax, lonMax, latMin, lonMin, tags, actor);
+    if (webRequest.checkNotModified(result.version())) {
+        return null;
+    }
+    List<PinDto> pinDtos = capped(result.pins().get());
 
     return new RsData<>(
             "200",
@@ -140,6 +246,134 @@ public RsData<List<PinDto>> getRectanglePins(
     );
 }
 
+    //범위로 조회 - 사각형 (커서 페이지)
+    @Operation(summary = "핀 조회 - 페이지 (범위-사각형)", description = "사각형 범위 내 핀을 pin_id 커서 기반으로 페이지 조회")
+    @GetMapping("/screen/page")
+    public RsData<PinPageResponse> getRectanglePinsPage(
+            @NotNull
+            @Min(-90)
+            @Max(90)
+            @RequestParam double latMax,
+            @NotNull
+            @Min(-180)
+            @Max(180)
+            @RequestParam double lonMax,
+            @NotNull
+            @Min(-90)
+            @Max(90)
+            @RequestParam double latMin,
+            @NotNull
+            @Min(-180)
+            @Max(180)
+            @RequestParam double lonMin,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        User actor = rq.getActor();
+        return new RsData<>(
+                "200",
+                "성공적으로 처리되었습니다",
+                pinService.findScreenPinsPage(latMax, lonMax, latMin, lonMin, actor, cursor, size)
+        );
+    }
+
+    //범위로 조회 - 사각형 (클러스터)
+    @Operation(summary = "핀 조회 - 클러스터 (범위-사각형)", description = "범위 내 핀을 줌 레벨에 맞는 격자로 묶어 셀별 중심점과 개수를 조회")
+    @GetMapping("/screen/clusters")
+    public RsData<List<PinClusterDto>> getRectangleClusters(
+            @NotNull
+            @Min(-90)
+            @Max(90)
+            @RequestParam double latMax,
+            @NotNull
+            @Min(-180)
+            @Max(180)
+            @RequestParam double lonMax,
+            @NotNull
+            @Min(-90)
+            @Max(90)
+            @RequestParam double latMin,
+            @NotNull
+            @Min(-180)
+            @Max(180)
+            @RequestParam double lonMin,
+            @NotNull
+            @Min(0)
+            @Max(22)
+            @RequestParam int zoom
+    ) {
+        User actor = rq.getActor();
+        List<PinClusterDto> clusterDtos = pinService.findScreenClusters(latMax, lonMax, latMin, lonMin, zoom, actor)
+                .stream()
+                .map(PinClusterDto::new)
+                .toList();
+
+        return new RsData<>(
+                "200",
+                "성공적으로 처리되었습니다",
+                clusterDtos
+        );
+    }
+
+    //범위로 조회 - 사각형 (geohash 셀별 개수)
+    @Operation(summary = "핀 조회 - 셀별 개수 (범위-사각형)", description = "범위 내 핀을 geohash 앞 precision 자리 셀로 묶어 셀별 개수를 조회")
+    @GetMapping("/screen/cells")
+    public RsData<List<PinCellCount>> getRectangleCellCounts(
+            @NotNull
+            @Min(-90)
+            @Max(90)
+            @RequestParam double latMax,
+            @NotNull
+            @Min(-180)
+            @Max(180)
+            @RequestParam double lonMax,
+            @NotNull
+            @Min(-90)
+            @Max(90)
+            @RequestParam double latMin,
+            @NotNull
+            @Min(-180)
+            @Max(180)
+            @RequestParam double lonMin,
+            @NotNull
+            @Min(1)
+            @Max(Pin.CELL_PRECISION)
+            @RequestParam int precision
+    ) {
+        User actor = rq.getActor();
+        List<PinCellCount> cellCounts = pinService.findScreenCellCounts(latMax, lonMax, latMin, lonMin, precision, actor);
+
+        return new RsData<>(
+                "200",
+                "성공적으로 처리되었습니다",
+                cellCounts
+        );
+    }
+
+    //타일로 조회 - Mapbox Vector Tile
+    @Operation(summary = "핀 조회 - 벡터 타일 (z/x/y)", description = "타일 범위의 핀을 Mapbox Vector Tile(pins 레이어)로 조회")
+    @GetMapping("/tiles/{z}/{x}/{y}.mvt")
+    public ResponseEntity<byte[]> getPinTile(
+            @Min(0)
+            @Max(22)
+            @PathVariable("z") int z,
+            @PathVariable("x") int x,
+            @PathVariable("y") int y
+    ) {
+        User actor = rq.getActor();
+        byte[] tile = pinService.findTile(z, x, y, actor);
+
+        // 비로그인 타일은 URL 단위로 공유 캐시 가능
+        CacheControl cacheControl = actor == null
+                ? CacheControl.maxAge(Duration.ofSeconds(TILE_MAX_AGE_SECONDS)).cachePublic()
+                : CacheControl.noCache().cachePrivate();
+
+        return ResponseEntity.ok()
+                .contentType(MVT_MEDIA_TYPE)
+                .cacheControl(cacheControl)
+                .body(tile);
+    }
+
     //사용자로 조회
     @Operation(summary = "핀 조회 - 다건 (작성자+연도+월)", description = "작성자로 핀을 다건 조회")
     @GetMapping("/user/{userId}/date")
@@ -175,10 +409,7 @@ public RsData<List<PinDto>> getRectanglePins(
     ){
         User actor = rq.getActor();
         User writer = userService.findById(userId);
-        List<Pin> pins = pinService.findByUserId(actor, writer);
-        List<PinDto> pinDtos = pins.stream()
-                .map(PinDto::new)
-                .collect(Collectors.toList());
+        List<PinDto> pinDtos = pinService.findDtosByUserId(actor, writer);
         return new RsData<>(
                 "200",
                 "성공적으로 처리되었습니다",
@@ -186,17 +417,30 @@ public RsData<List<PinDto>> getRectanglePins(
         );
     }
 
+    //사용자로 조회 (커서 페이지)
+    @Operation(summary = "핀 조회 - 페이지 (작성자)", description = "작성자의 핀을 pin_id 커서 기반으로 페이지 조회")
+    @GetMapping("/user/{userId}/page")
+    public RsData<PinPageResponse> getUserPinsPage(
+            @NotNull
+            @PathVariable Long userId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size
+    ){
+        User actor = rq.getActor();
+        User writer = userService.findById(userId);
+        return new RsData<>(
+                "200",
+                "성공적으로 처리되었습니다",
+                pinService.findByUserIdPage(actor, writer, cursor, size)
+        );
+    }
+
     //전부 조회
-    @Operation(summary = "핀 조회 - 다건 (all)", description = "모든 핀을 다건 조회")
+    @Operation(summary = "핀 조회 - 다건 (all)", description = "모든 핀을 다건 조회 (pin_id 순 최대 " + PinService.MAX_LIST_SIZE + "개이며 넘으면 X-Result-Truncated: true)")
     @GetMapping("/all")
     public RsData<List<PinDto>> getAll() {
         User actor = rq.getActor();
-        List<Pin> pins = pinService.findAll(actor);
-
-        List<PinDto> pinDtos = pins.stream()
-                .map(PinDto::new)
-                .toList();
-
+        List<PinDto> pinDtos = capped(pinService.findAll(actor));
 
         return new RsData<>(
                 "200",
@@ -205,6 +449,21 @@ public RsData<List<PinDto>> getRectanglePins(
         );
     }
 
+    //전부 조회 (커서 페이지)
+    @Operation(summary = "핀 조회 - 페이지 (all)", description = "모든 핀을 pin_id 커서 기반으로 페이지 조회")
+    @GetMapping("/all/page")
+    public RsData<PinPageResponse> getAllPage(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        User actor = rq.getActor();
+        return new RsData<>(
+                "200",
+                "성공적으로 처리되었습니다",
+                pinService.findAllPage(actor, cursor, size)
+        );
+    }
+
     //수정
     //핀 내용 수정
     @Operation(summary = "핀 수정 - 내용 (pinId)", description = "핀의 내용(Content)을 수정")
@@ -281,6 +540,24 @@ public RsData<List<PinDto>> getRectanglePins(
         );
     }
 
+    // 좋아요 일괄 등록/취소
+    @Operation(summary = "핀 좋아요 일괄 처리", description = "로그인한 사용자의 좋아요 등록/취소 목록을 한 번에 반영")
+    @PostMapping("/likes")
+    public RsData<PinLikesBatchResponse> applyPinLikes(
+            @Valid @RequestBody PinLikesBatchRequest reqbody
+    ) {
+        User actor = rq.getActor();
+        if (actor == null) {
+            throw new ServiceException(ErrorCode.AUTH_REQUIRED);
+        }
+
+        return new RsData<>(
+                "200",
+                "성공적으로 처리되었습니다",
+                likesService.applyLikeOperations(actor.getId(), reqbody.operations())
+        );
+    }
+
     // 해당 핀을 좋아요 누른 유저 ID 목록 전달
     @Operation(summary = "핀 좋아요 사용자 조회 - pinId", description = "핀을 id로 조회하여 좋아요 등록한 사용자 조회")
     @GetMapping("{pinId}/likesusers")
@@ -311,4 +588,13 @@ public RsData<List<PinDto>> getRectanglePins(
         );
     }
 
-}
\ No newline at end of file
+    // 조회 결과가 MAX_LIST_SIZE 개를 넘으면 잘라내고 헤더로 알림
+    private List<PinDto> capped(List<PinDto> pins) {
+        if (pins.size() <= PinService.MAX_LIST_SIZE) {
+            return pins;
+        }
+        rq.setHeader(TRUNCATED_HEADER, "true");
+        return pins.subList(0, PinService.MAX_LIST_SIZE);
+    }
+
+}
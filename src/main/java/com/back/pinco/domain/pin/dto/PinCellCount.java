@@ -0,0 +1,12 @@
+package com.back.pinco.domain.pin.dto;
+
+/**
+ * geohash 셀별 핀 개수
+ * @param cell geohash 셀
+ * @param count 셀 안의 핀 수
+ */
+public record PinCellCount(
+        String cell,
+        long count
+) {
+}
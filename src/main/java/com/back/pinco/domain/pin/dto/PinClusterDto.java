@@ -0,0 +1,21 @@
+package com.back.pinco.domain.pin.dto;
+
+/**
+ * 핀 클러스터 DTO
+ * @param latitude 셀에 속한 핀들의 중심 위도
+ * @param longitude 셀에 속한 핀들의 중심 경도
+ * @param count 셀에 속한 핀 개수
+ */
+public record PinClusterDto(
+        Double latitude,
+        Double longitude,
+        long count
+) {
+    public PinClusterDto(PinClusterProjection cluster) {
+        this(
+                cluster.getLatitude(),
+                cluster.getLongitude(),
+                cluster.getCount()
+        );
+    }
+}
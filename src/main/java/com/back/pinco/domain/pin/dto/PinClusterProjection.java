@@ -0,0 +1,12 @@
+package com.back.pinco.domain.pin.dto;
+
+/**
+ * 핀 클러스터 조회 결과 (native query projection)
+ */
+public interface PinClusterProjection {
+    Double getLatitude();
+
+    Double getLongitude();
+
+    Long getCount();
+}
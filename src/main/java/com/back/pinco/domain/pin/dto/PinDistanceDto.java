@@ -0,0 +1,17 @@
+package com.back.pinco.domain.pin.dto;
+
+import com.back.pinco.domain.pin.entity.Pin;
+
+/**
+ * 거리 정보를 포함한 핀 DTO
+ * @param pin 핀 정보
+ * @param distance 기준 좌표로부터의 거리(m)
+ */
+public record PinDistanceDto(
+        PinDto pin,
+        double distance
+) {
+    public PinDistanceDto(Pin pin, double distance) {
+        this(new PinDto(pin), distance);
+    }
+}
@@ -0,0 +1,10 @@
+package com.back.pinco.domain.pin.dto;
+
+/**
+ * 기준 좌표로부터의 핀 거리 조회 결과 (native query projection)
+ */
+public interface PinDistanceProjection {
+    Long getId();
+
+    Double getDistance();
+}
@@ -0,0 +1,34 @@
+package com.back.pinco.domain.pin.dto;
+
+import com.back.pinco.domain.pin.entity.Pin;
+
+import java.util.List;
+
+/**
+ * 커서 기반 핀 목록 응답 DTO
+ * @param pins 핀 목록 (pin_id 오름차순)
+ * @param nextCursor 다음 페이지 요청 시 cursor 로 전달할 값 (마지막 페이지면 null)
+ * @param hasNext 다음 페이지 존재 여부
+ */
+public record PinPageResponse(
+        List<PinDto> pins,
+        Long nextCursor,
+        boolean hasNext
+) {
+    /**
+     * @param pins limit + 1 개까지 조회한 핀 목록
+     * @param limit 페이지 크기
+     */
+    public static PinPageResponse of(List<Pin> pins, int limit) {
+        boolean hasNext = pins.size() > limit;
+        List<Pin> page = hasNext ? pins.subList(0, limit) : pins;
+
+        return new PinPageResponse(
+                page.stream()
+                        .map(PinDto::new)
+                        .toList(),
+                hasNext ? page.get(page.size() - 1).getId() : null,
+                hasNext
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.back.pinco.domain.pin.dto;
+
+/**
+ * 인기 핀 랭킹 항목
+ * @param cell 핀이 속한 geohash 셀
+ * @param pinId 핀 ID
+ * @param latitude 위도
+ * @param longitude 경도
+ * @param likeCount 랭킹 갱신 시점의 좋아요 수
+ */
+public record PinRankEntry(
+        String cell,
+        long pinId,
+        double latitude,
+        double longitude,
+        int likeCount
+) {
+}
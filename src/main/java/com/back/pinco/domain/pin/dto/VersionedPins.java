@@ -0,0 +1,16 @@
+package com.back.pinco.domain.pin.dto;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 핀 목록 조회 결과의 버전(ETag)과 본문
+ * - 메모리 경로: 버전을 계산한 목록을 그대로 본문으로 사용 (ETag 와 본문이 어긋나지 않음)
+ * - DB 경로: 버전이 달라져 본문이 필요할 때만 목록 조회
+ */
+public record VersionedPins(String version, Supplier<List<PinDto>> pins) {
+
+    public static VersionedPins of(String version, List<PinDto> pins) {
+        return new VersionedPins(version, () -> pins);
+    }
+}
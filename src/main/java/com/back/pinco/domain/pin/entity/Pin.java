@@ -3,12 +3,14 @@ package com.back.pinco.domain.pin.entity;
 import com.back.pinco.domain.pin.dto.UpdatePinContentRequest;
 import com.back.pinco.domain.tag.entity.PinTag;
 import com.back.pinco.domain.user.entity.User;
+import com.back.pinco.global.geometry.GeohashUtil;
 import com.back.pinco.global.geometry.GeometryUtil;
 import com.back.pinco.global.jpa.entity.BaseEntity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.locationtech.jts.geom.Point;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -18,10 +20,8 @@ import java.util.List;
 @Entity
 @NoArgsConstructor
 @Getter
-@Table(
-        name = "pins",
-        indexes = @Index(name = "idx_pin_point", columnList = "point")
-)
+@DynamicUpdate    // 변경된 컬럼만 UPDATE (like_count 는 write-behind 로 SQL 에서 직접 증감하므로 덮어쓰지 않도록)
+@Table(name = "pins")    // 공간(GiST) 인덱스는 resources/import.sql 에서 생성
 @EntityListeners(AuditingEntityListener.class)
 @SequenceGenerator(
         name = "pin_id_gen",
@@ -31,6 +31,8 @@ import java.util.List;
 )
 public class Pin extends BaseEntity{
 
+    public static final int CELL_PRECISION = 9;    // 저장하는 geohash 길이 (약 5m 셀, 앞부분을 잘라 더 큰 셀로 사용)
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pin_id_gen")
     @Column(name = "pin_id")
@@ -39,6 +41,10 @@ public class Pin extends BaseEntity{
     @Column(name = "point", nullable = false, columnDefinition = "geography(Point, " + GeometryUtil.SRID + ")")
     private Point point;    // 위치
 
+    // 위치의 geohash (C 정렬이라 접두사 범위 조회가 B-tree 인덱스를 탐, 인덱스는 resources/import.sql)
+    @Column(name = "cell", columnDefinition = "varchar(" + CELL_PRECISION + ") COLLATE \"C\"")
+    private String cell;
+
     @Column(name = "content", columnDefinition = "TEXT")
     private String content;    // 내용
 
@@ -62,6 +68,7 @@ public class Pin extends BaseEntity{
 
     public Pin(Point point, User user, String content) {
         this.point = point;
+        this.cell = GeohashUtil.encode(point.getY(), point.getX(), CELL_PRECISION);
         this.user = user;
         this.content  = content;
     }
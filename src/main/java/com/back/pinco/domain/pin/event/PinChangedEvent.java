@@ -0,0 +1,20 @@
+package com.back.pinco.domain.pin.event;
+
+/**
+ * 핀 변경 이벤트 (생성/수정/공개 전환/삭제/태그 변경)
+ * - 커밋 이후 메모리 읽기 경로(PublicPinIndex 등)가 해당 핀을 DB 에서 다시 읽어 반영
+ * @param pinId 변경된 핀 ID (작성자 단위 변경이면 null)
+ * @param writerId 작성자의 핀 전체가 바뀐 경우 작성자 ID (회원 탈퇴 등, 아니면 null)
+ */
+public record PinChangedEvent(
+        Long pinId,
+        Long writerId
+) {
+    public static PinChangedEvent ofPin(Long pinId) {
+        return new PinChangedEvent(pinId, null);
+    }
+
+    public static PinChangedEvent ofWriter(Long writerId) {
+        return new PinChangedEvent(null, writerId);
+    }
+}
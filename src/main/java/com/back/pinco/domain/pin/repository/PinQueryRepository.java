@@ -0,0 +1,362 @@
+package com.back.pinco.domain.pin.repository;
+
+import com.back.pinco.domain.pin.dto.PinCellCount;
+import com.back.pinco.domain.pin.dto.PinDto;
+import com.back.pinco.domain.pin.dto.PinRankEntry;
+import com.back.pinco.global.geometry.GeometryUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+
+/**
+ * 엔티티로 매핑하지 않는 핀 조회 전용 저장소 (JDBC)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PinQueryRepository {
+
+    public static final int TILE_EXTENT = 4096;    // MVT 타일 내부 좌표 해상도
+
+    // 타일(z/x/y) 범위의 핀을 Mapbox Vector Tile 로 인코딩
+    private static final String TILE_QUERY =
+            "WITH bounds AS (SELECT ST_TileEnvelope(:z, :x, :y) AS geom), " +
+                    "mvtgeom AS (" +
+                    "SELECT ST_AsMVTGeom(ST_Transform(p.point::geometry, 3857), bounds.geom, " + TILE_EXTENT + ") AS geom, " +
+                    "p.pin_id AS id, " +
+                    "p.like_count AS like_count " +
+                    "FROM pins p, bounds " +
+                    "WHERE p.is_deleted = false " +
+                    "AND p.point && ST_Transform(bounds.geom, " + GeometryUtil.SRID + ")::geography ";
+
+    private static final String TILE_SELECT =
+            ") SELECT ST_AsMVT(mvtgeom.*, 'pins', " + TILE_EXTENT + ", 'geom', 'id') FROM mvtgeom";
+
+    // PinDto 변환에 필요한 컬럼만 조회 (엔티티/Point 객체 생성 없이 좌표와 태그 키워드를 바로 읽음)
+    private static final String PIN_DTO_SELECT =
+            "SELECT p.pin_id, " +
+                    "ST_Y(p.point::geometry) AS latitude, " +
+                    "ST_X(p.point::geometry) AS longitude, " +
+                    "p.content, p.user_id, p.like_count, p.is_public, p.create_at, p.modified_at, " +
+                    "ARRAY(SELECT t.keyword FROM pin_tags pt JOIN tags t ON t.tag_id = pt.tag_id " +
+                    "WHERE pt.pin_id = p.pin_id ORDER BY pt.pin_tag_id) AS keywords " +
+                    "FROM pins p " +
+                    "WHERE p.is_deleted = false ";
+
+    private static final String RADIUS_CONDITION =
+            "AND ST_DWithin(p.point, ST_SetSRID(ST_MakePoint(:longitude, :latitude), " + GeometryUtil.SRID + ")::geography, :radiusInMeters) ";
+
+    private static final String RECTANGLE_CONDITION =
+            "AND p.point && ST_MakeEnvelope(:lonMin, :latMin, :lonMax, :latMax, " + GeometryUtil.SRID + ") ";
+
+    // 주어진 키워드가 모두 달린 핀만 (삭제되지 않은 태그 연결 기준)
+    private static final String TAGS_CONDITION =
+            "AND p.pin_id IN (" +
+                    "SELECT pt.pin_id FROM pin_tags pt JOIN tags t ON t.tag_id = pt.tag_id " +
+                    "WHERE pt.is_deleted = false AND t.keyword IN (:tags) " +
+                    "GROUP BY pt.pin_id " +
+                    "HAVING COUNT(DISTINCT t.tag_id) = :tagCount) ";
+
+    private static final String WRITER_CONDITION = "AND p.user_id = :writerId ";
+
+    private static final String PUBLIC_CONDITION = "AND p.is_public = true ";
+
+    private static final String ACCESSIBLE_CONDITION = "AND (p.user_id = :userId OR p.is_public = true) ";
+
+    private static final String PIN_ORDER = "ORDER BY p.pin_id";
+
+    private static final String PIN_LIMIT = " LIMIT :limit";
+
+    private static final String IDS_CONDITION = "AND p.pin_id IN (:pinIds) ";
+
+    // 조회 결과 버전 (행/태그 배열을 만들지 않고 행별 다이제스트만 계산, 조건은 PinDto 조회와 같음)
+    private static final String VERSION_SELECT =
+            "WITH v AS (SELECT p.pin_id, p.like_count, p.modified_at FROM pins p WHERE p.is_deleted = false ";
+
+    // 합계가 아닌 행별 값으로 계산 (좋아요 증감은 modified_at 을 바꾸지 않으므로 서로 상쇄되는 변화도 구분해야 함)
+    private static final String VERSION_AGGREGATE =
+            ") SELECT COUNT(*) AS pin_count, " +
+                    "COALESCE(md5(string_agg(v.pin_id || ':' || v.like_count || ':' || COALESCE(v.modified_at::text, ''), ',' ORDER BY v.pin_id)), '') AS pin_digest, " +
+                    "(SELECT COALESCE(md5(string_agg(pt.pin_tag_id || ':' || pt.tag_id || ':' || pt.is_deleted || ':' || COALESCE(pt.modified_at::text, ''), ',' ORDER BY pt.pin_tag_id)), '') " +
+                    "FROM pin_tags pt JOIN v vt ON vt.pin_id = pt.pin_id) AS tag_digest " +
+                    "FROM v";
+
+    private static final RowMapper<String> VERSION_ROW_MAPPER = (rs, rowNum) -> String.join("-",
+            Long.toHexString(rs.getLong("pin_count")),
+            rs.getString("pin_digest"),
+            rs.getString("tag_digest")
+    );
+
+    // 셀 접두사 범위의 끝 ('{' 는 base32 문자 다음 문자, cell 컬럼이 C 정렬이라 바이트 순으로 비교)
+    private static final String CELL_RANGE_END = "{";
+
+    // 셀(geohash 앞 :precision 자리)별 핀 개수
+    private static final String CELL_COUNT_SELECT =
+            "SELECT LEFT(p.cell, :precision) AS cell, COUNT(*) AS count " +
+                    "FROM pins p " +
+                    "WHERE p.is_deleted = false ";
+
+    private static final String CELL_COUNT_GROUP_BY = "GROUP BY 1 ORDER BY 1";    // :precision 을 다시 쓰면 별도 파라미터가 되어 GROUP BY 식이 달라짐
+
+    private static final RowMapper<PinCellCount> PIN_CELL_COUNT_ROW_MAPPER = (rs, rowNum) -> new PinCellCount(
+            rs.getString("cell"),
+            rs.getLong("count")
+    );
+
+    // geohash 셀별 좋아요 상위 :perCell 개의 공개 핀 (인기 핀 랭킹 갱신용)
+    private static final String RANKING_QUERY =
+            "SELECT ranked.cell, ranked.pin_id, ranked.latitude, ranked.longitude, ranked.like_count " +
+                    "FROM (" +
+                    "SELECT ST_GeoHash(p.point::geometry, :precision) AS cell, p.pin_id, " +
+                    "ST_Y(p.point::geometry) AS latitude, " +
+                    "ST_X(p.point::geometry) AS longitude, " +
+                    "p.like_count, " +
+                    "ROW_NUMBER() OVER (PARTITION BY ST_GeoHash(p.point::geometry, :precision) " +
+                    "ORDER BY p.like_count DESC, p.pin_id) AS rank " +
+                    "FROM pins p " +
+                    "WHERE p.is_deleted = false AND p.is_public = true AND p.like_count > 0" +
+                    ") ranked " +
+                    "WHERE ranked.rank <= :perCell " +
+                    "ORDER BY ranked.cell, ranked.rank";
+
+    private static final RowMapper<PinRankEntry> PIN_RANK_ROW_MAPPER = (rs, rowNum) -> new PinRankEntry(
+            rs.getString("cell"),
+            rs.getLong("pin_id"),
+            rs.getDouble("latitude"),
+            rs.getDouble("longitude"),
+            rs.getInt("like_count")
+    );
+
+    private static final RowMapper<PinDto> PIN_DTO_ROW_MAPPER = (rs, rowNum) -> new PinDto(
+            rs.getLong("pin_id"),
+            rs.getDouble("latitude"),
+            rs.getDouble("longitude"),
+            rs.getString("content"),
+            rs.getLong("user_id"),
+            keywords(rs),
+            rs.getInt("like_count"),
+            rs.getBoolean("is_public"),
+            rs.getObject("create_at", LocalDateTime.class),
+            rs.getObject("modified_at", LocalDateTime.class)
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // ===== PinDto 조회 (userId 가 null 이면 공개 핀만, tags 가 비어 있으면 태그 조건 없음) =====
+
+    public List<PinDto> findPinsWithinRadius(double latitude, double longitude, double radiusInMeters, Collection<String> tags, Long userId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("latitude", latitude)
+                .addValue("longitude", longitude)
+                .addValue("radiusInMeters", radiusInMeters);
+        return queryPins(RADIUS_CONDITION + tagsCondition(tags, params), params, userId);
+    }
+
+    // 목록 API 용 (pin_id 순 앞 limit 개까지만)
+    public List<PinDto> findPinsWithinRadius(double latitude, double longitude, double radiusInMeters, Collection<String> tags, Long userId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("latitude", latitude)
+                .addValue("longitude", longitude)
+                .addValue("radiusInMeters", radiusInMeters);
+        return queryPins(RADIUS_CONDITION + tagsCondition(tags, params), params, userId, limit);
+    }
+
+    public List<PinDto> findScreenPins(double latMax, double lonMax, double latMin, double lonMin, Collection<String> tags, Long userId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("latMax", latMax)
+                .addValue("lonMax", lonMax)
+                .addValue("latMin", latMin)
+                .addValue("lonMin", lonMin);
+        return queryPins(RECTANGLE_CONDITION + tagsCondition(tags, params), params, userId);
+    }
+
+    // 사각 범위를 덮는 셀들의 접두사 범위 조회 후 범위 안의 핀만, pin_id 순 앞 limit 개까지 (cells 는 범위를 빠짐없이 덮어야 함)
+    public List<PinDto> findScreenPinsInCells(Collection<String> cells, double latMax, double lonMax, double latMin, double lonMin, Collection<String> tags, Long userId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("latMax", latMax)
+                .addValue("lonMax", lonMax)
+                .addValue("latMin", latMin)
+                .addValue("lonMin", lonMin);
+        return queryPins(cellsCondition(cells, params) + RECTANGLE_CONDITION + tagsCondition(tags, params), params, userId, limit);
+    }
+
+    // 셀(geohash 접두사)들에 속한 핀
+    public List<PinDto> findPinsInCells(Collection<? extends String> cells, Long userId) {
+        if (cells.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        return queryPins(cellsCondition(cells, params), params, userId);
+    }
+
+    // ===== 조회 결과 버전 (ETag, 목록 API 와 같은 pin_id 순 앞 limit 개 기준) =====
+
+    public String findPinsWithinRadiusVersion(double latitude, double longitude, double radiusInMeters, Collection<String> tags, Long userId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("latitude", latitude)
+                .addValue("longitude", longitude)
+                .addValue("radiusInMeters", radiusInMeters);
+        return queryVersion(RADIUS_CONDITION + tagsCondition(tags, params), params, userId, limit);
+    }
+
+    public String findScreenPinsVersion(double latMax, double lonMax, double latMin, double lonMin, Collection<String> tags, Long userId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("latMax", latMax)
+                .addValue("lonMax", lonMax)
+                .addValue("latMin", latMin)
+                .addValue("lonMin", lonMin);
+        return queryVersion(RECTANGLE_CONDITION + tagsCondition(tags, params), params, userId, limit);
+    }
+
+    private String queryVersion(String condition, MapSqlParameterSource params, Long userId, int limit) {
+        params.addValue("limit", limit);
+        String sql = VERSION_SELECT + condition + visibilityCondition(userId, params) + PIN_ORDER + PIN_LIMIT + VERSION_AGGREGATE;
+        return jdbcTemplate.queryForObject(sql, params, VERSION_ROW_MAPPER);
+    }
+
+    public List<PinDto> findPinsByWriter(long writerId, Long userId) {
+        return queryPins(WRITER_CONDITION, new MapSqlParameterSource("writerId", writerId), userId);
+    }
+
+    public List<PinDto> findAllPins(Long userId) {
+        return queryPins("", new MapSqlParameterSource(), userId);
+    }
+
+    // 목록 API 용 (pin_id 순 앞 limit 개까지만)
+    public List<PinDto> findAllPins(Long userId, int limit) {
+        return queryPins("", new MapSqlParameterSource(), userId, limit);
+    }
+
+    public List<PinDto> findPinsByIds(Collection<Long> pinIds, Long userId) {
+        if (pinIds.isEmpty()) {
+            return List.of();
+        }
+        return queryPins(IDS_CONDITION, new MapSqlParameterSource("pinIds", pinIds), userId);
+    }
+
+    private List<PinDto> queryPins(String condition, MapSqlParameterSource params, Long userId) {
+        return jdbcTemplate.query(PIN_DTO_SELECT + condition + visibilityCondition(userId, params) + PIN_ORDER, params, PIN_DTO_ROW_MAPPER);
+    }
+
+    private List<PinDto> queryPins(String condition, MapSqlParameterSource params, Long userId, int limit) {
+        params.addValue("limit", limit);
+        return jdbcTemplate.query(PIN_DTO_SELECT + condition + visibilityCondition(userId, params) + PIN_ORDER + PIN_LIMIT, params, PIN_DTO_ROW_MAPPER);
+    }
+
+    // userId 가 null 이면 공개 핀만, 있으면 본인 핀 + 공개 핀
+    private String visibilityCondition(Long userId, MapSqlParameterSource params) {
+        if (userId == null) {
+            return PUBLIC_CONDITION;
+        }
+        params.addValue("userId", userId);
+        return ACCESSIBLE_CONDITION;
+    }
+
+    // 셀마다 [cell, cell + '{') 범위 조건을 OR 로 연결 (cell 인덱스 범위 스캔)
+    private String cellsCondition(Collection<? extends String> cells, MapSqlParameterSource params) {
+        StringJoiner ranges = new StringJoiner(" OR ", "AND (", ") ");
+        int index = 0;
+        for (String cell : cells) {
+            params.addValue("cellFrom" + index, cell)
+                    .addValue("cellTo" + index, cell + CELL_RANGE_END);
+            ranges.add("(p.cell >= :cellFrom" + index + " AND p.cell < :cellTo" + index + ")");
+            index++;
+        }
+        return ranges.toString();
+    }
+
+    // 태그가 없으면 조건 없음, 있으면 중복을 제거한 키워드 수만큼 모두 달린 핀만
+    private String tagsCondition(Collection<String> tags, MapSqlParameterSource params) {
+        if (tags == null) {
+            return "";
+        }
+        Set<String> keywords = tags.stream()
+                .filter(tag -> tag != null && !tag.isBlank())
+                .collect(Collectors.toSet());
+        if (keywords.isEmpty()) {
+            return "";
+        }
+        params.addValue("tags", keywords)
+                .addValue("tagCount", keywords.size());
+        return TAGS_CONDITION;
+    }
+
+    private static List<String> keywords(ResultSet rs) throws SQLException {
+        Array array = rs.getArray("keywords");
+        if (array == null) {
+            return List.of();
+        }
+        try {
+            return Arrays.asList((String[]) array.getArray());
+        } finally {
+            array.free();
+        }
+    }
+
+    // ===== 셀별 개수 =====
+
+    // 사각 범위 안의 핀을 geohash 앞 precision 자리로 묶은 개수 (cells 는 범위를 빠짐없이 덮어야 함)
+    public List<PinCellCount> countScreenPinsByCell(Collection<String> cells, int precision, double latMax, double lonMax, double latMin, double lonMin, Long userId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("precision", precision)
+                .addValue("latMax", latMax)
+                .addValue("lonMax", lonMax)
+                .addValue("latMin", latMin)
+                .addValue("lonMin", lonMin);
+        String sql = CELL_COUNT_SELECT
+                + cellsCondition(cells, params)
+                + RECTANGLE_CONDITION
+                + visibilityCondition(userId, params)
+                + CELL_COUNT_GROUP_BY;
+        return jdbcTemplate.query(sql, params, PIN_CELL_COUNT_ROW_MAPPER);
+    }
+
+    // ===== 인기 핀 랭킹 =====
+
+    public List<PinRankEntry> findTopLikedPinsPerCell(int precision, int perCell) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("precision", precision)
+                .addValue("perCell", perCell);
+        return jdbcTemplate.query(RANKING_QUERY, params, PIN_RANK_ROW_MAPPER);
+    }
+
+    // ===== 벡터 타일 =====
+
+    public byte[] findPublicTile(int z, int x, int y) {
+        return queryTile(
+                TILE_QUERY + "AND p.is_public = true" + TILE_SELECT,
+                tileParams(z, x, y)
+        );
+    }
+
+    public byte[] findTile(int z, int x, int y, Long userId) {
+        return queryTile(
+                TILE_QUERY + "AND (p.user_id = :userId OR p.is_public = true)" + TILE_SELECT,
+                tileParams(z, x, y).addValue("userId", userId)
+        );
+    }
+
+    private MapSqlParameterSource tileParams(int z, int x, int y) {
+        return new MapSqlParameterSource()
+                .addValue("z", z)
+                .addValue("x", x)
+                .addValue("y", y);
+    }
+
+    private byte[] queryTile(String sql, MapSqlParameterSource params) {
+        byte[] tile = jdbcTemplate.queryForObject(sql, params, byte[].class);
+        return tile == null ? new byte[0] : tile;
+    }
+}
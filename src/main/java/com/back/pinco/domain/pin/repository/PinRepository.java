@@ -1,12 +1,16 @@
 package com.back.pinco.domain.pin.repository;
 
+import com.back.pinco.domain.pin.dto.PinClusterProjection;
+import com.back.pinco.domain.pin.dto.PinDistanceProjection;
 import com.back.pinco.domain.pin.entity.Pin;
 import com.back.pinco.global.geometry.GeometryUtil;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,9 +38,62 @@ public interface PinRepository extends JpaRepository<Pin,Long> {
             @Param("radiusInMeters") Double radiusInMeters
     );
 
-    String Rectangle_BASE_QUERY =
-            "SELECT p.* FROM pins p " +
+    // 커서(마지막으로 받은 pin_id) 이후의 핀을 pin_id 순으로 limit 개까지 조회
+    String KEYSET_CONDITION = " AND p.pin_id > :cursor ";
+
+    String KEYSET_ORDER = " ORDER BY p.pin_id LIMIT :limit";
+
+    @Query(value = BASE_QUERY + "AND (user_id = :userId OR is_public = true)" + KEYSET_CONDITION + KEYSET_ORDER, nativeQuery = true)
+    List<Pin> findPinsWithinRadiusAfter(
+            @Param("latitude") Double latitude,
+            @Param("longitude") Double longitude,
+            @Param("radiusInMeters") Double radiusInMeters,
+            @Param("userId") Long userId,
+            @Param("cursor") Long cursor,
+            @Param("limit") int limit
+    );
+
+    @Query(value = BASE_QUERY + "AND is_public = true" + KEYSET_CONDITION + KEYSET_ORDER, nativeQuery = true)
+    List<Pin> findPublicPinsWithinRadiusAfter(
+            @Param("latitude") Double latitude,
+            @Param("longitude") Double longitude,
+            @Param("radiusInMeters") Double radiusInMeters,
+            @Param("cursor") Long cursor,
+            @Param("limit") int limit
+    );
+
+    // 기준 좌표에서 가까운 순으로 핀 조회 (geography KNN 연산자 <-> 로 GiST 인덱스 순서 탐색)
+    String ORIGIN_POINT =
+            "ST_SetSRID(ST_MakePoint(:longitude, :latitude), " + GeometryUtil.SRID + ")::geography";
+
+    // 반경(:radiusInMeters) 안에서만 찾아 근처에 핀이 적어도 인덱스 탐색이 테이블 전체로 번지지 않도록 함
+    String NEAREST_QUERY =
+            "SELECT p.pin_id AS id, ST_Distance(p.point, " + ORIGIN_POINT + ") AS distance " +
+                    "FROM pins p " +
                     "WHERE p.is_deleted = false " +
+                    "AND ST_DWithin(p.point, " + ORIGIN_POINT + ", :radiusInMeters) ";
+
+    String NEAREST_ORDER = " ORDER BY p.point <-> " + ORIGIN_POINT + " LIMIT :limit";
+
+    @Query(value = NEAREST_QUERY + "AND (p.user_id = :userId OR p.is_public = true)" + NEAREST_ORDER, nativeQuery = true)
+    List<PinDistanceProjection> findNearestPins(
+            @Param("latitude") Double latitude,
+            @Param("longitude") Double longitude,
+            @Param("radiusInMeters") Double radiusInMeters,
+            @Param("userId") Long userId,
+            @Param("limit") int limit
+    );
+
+    @Query(value = NEAREST_QUERY + "AND p.is_public = true" + NEAREST_ORDER, nativeQuery = true)
+    List<PinDistanceProjection> findPublicNearestPins(
+            @Param("latitude") Double latitude,
+            @Param("longitude") Double longitude,
+            @Param("radiusInMeters") Double radiusInMeters,
+            @Param("limit") int limit
+    );
+
+    String Rectangle_CONDITION =
+            "WHERE p.is_deleted = false " +
                     "AND p.point && ST_MakeEnvelope(" +
                     ":lonMin, " +
                     ":latMin, " +
@@ -45,6 +102,8 @@ public interface PinRepository extends JpaRepository<Pin,Long> {
                     ", " + GeometryUtil.SRID +
                     ") ";
 
+    String Rectangle_BASE_QUERY = "SELECT p.* FROM pins p " + Rectangle_CONDITION;
+
     @Query(value = Rectangle_BASE_QUERY + " AND p.is_public = true", nativeQuery = true)
     List<Pin> findPublicScreenPins(
             @Param("latMax") Double latMax,
@@ -58,6 +117,55 @@ public interface PinRepository extends JpaRepository<Pin,Long> {
                              @Param("latMin") Double latMin,
                              @Param("lonMin") Double lonMin,@Param("userId") Long userId);
 
+    @Query(value = Rectangle_BASE_QUERY + " AND p.is_public = true" + KEYSET_CONDITION + KEYSET_ORDER, nativeQuery = true)
+    List<Pin> findPublicScreenPinsAfter(
+            @Param("latMax") Double latMax,
+            @Param("lonMax") Double lonMax,
+            @Param("latMin") Double latMin,
+            @Param("lonMin") Double lonMin,
+            @Param("cursor") Long cursor,
+            @Param("limit") int limit
+    );
+
+    @Query(value = Rectangle_BASE_QUERY + " AND (p.user_id = :userId OR p.is_public = true)" + KEYSET_CONDITION + KEYSET_ORDER, nativeQuery = true)
+    List<Pin> findScreenPinsAfter(
+            @Param("latMax") Double latMax,
+            @Param("lonMax") Double lonMax,
+            @Param("latMin") Double latMin,
+            @Param("lonMin") Double lonMin,
+            @Param("userId") Long userId,
+            @Param("cursor") Long cursor,
+            @Param("limit") int limit
+    );
+
+    // 사각형 범위 내 핀을 격자(cellSize, 도 단위)로 묶어 셀별 중심점과 개수 조회
+    String CLUSTER_QUERY =
+            "SELECT ST_Y(ST_Centroid(ST_Collect(p.point::geometry))) AS latitude, " +
+                    "ST_X(ST_Centroid(ST_Collect(p.point::geometry))) AS longitude, " +
+                    "COUNT(*) AS count " +
+                    "FROM pins p " + Rectangle_CONDITION;
+
+    String CLUSTER_GROUP_BY = " GROUP BY ST_SnapToGrid(p.point::geometry, :cellSize)";
+
+    @Query(value = CLUSTER_QUERY + " AND p.is_public = true" + CLUSTER_GROUP_BY, nativeQuery = true)
+    List<PinClusterProjection> findPublicScreenClusters(
+            @Param("latMax") Double latMax,
+            @Param("lonMax") Double lonMax,
+            @Param("latMin") Double latMin,
+            @Param("lonMin") Double lonMin,
+            @Param("cellSize") Double cellSize
+    );
+
+    @Query(value = CLUSTER_QUERY + " AND (p.user_id = :userId OR p.is_public = true)" + CLUSTER_GROUP_BY, nativeQuery = true)
+    List<PinClusterProjection> findScreenClusters(
+            @Param("latMax") Double latMax,
+            @Param("lonMax") Double lonMax,
+            @Param("latMin") Double latMin,
+            @Param("lonMin") Double lonMin,
+            @Param("cellSize") Double cellSize,
+            @Param("userId") Long userId
+    );
+
 
     // 특정 사용자의 핀 조회
     @Query(value = """
@@ -76,6 +184,31 @@ public interface PinRepository extends JpaRepository<Pin,Long> {
 """)
     List<Pin> findPublicByUser(Long writerId);
 
+    @Query(value = "SELECT p.* FROM pins p " +
+            "WHERE p.is_deleted = false " +
+            "AND p.user_id = :writerId " +
+            "AND (p.user_id = :actorId OR p.is_public = true)" +
+            KEYSET_CONDITION + KEYSET_ORDER,
+            nativeQuery = true)
+    List<Pin> findAccessibleByUserAfter(
+            @Param("writerId") Long writerId,
+            @Param("actorId") Long actorId,
+            @Param("cursor") Long cursor,
+            @Param("limit") int limit
+    );
+
+    @Query(value = "SELECT p.* FROM pins p " +
+            "WHERE p.is_deleted = false " +
+            "AND p.user_id = :writerId " +
+            "AND p.is_public = true" +
+            KEYSET_CONDITION + KEYSET_ORDER,
+            nativeQuery = true)
+    List<Pin> findPublicByUserAfter(
+            @Param("writerId") Long writerId,
+            @Param("cursor") Long cursor,
+            @Param("limit") int limit
+    );
+
     @Query(value = "SELECT p.* FROM pins p " +
             "WHERE p.is_deleted = false " +
             "AND p.user_id = :userId " +
@@ -118,6 +251,36 @@ public interface PinRepository extends JpaRepository<Pin,Long> {
 """)
     List<Pin> findAllPublicPins();
 
+    @Query(value = "SELECT p.* FROM pins p " +
+            "WHERE p.is_deleted = false " +
+            "AND (p.user_id = :userId OR p.is_public = true)" +
+            KEYSET_CONDITION + KEYSET_ORDER,
+            nativeQuery = true)
+    List<Pin> findAllAccessiblePinsAfter(
+            @Param("userId") Long userId,
+            @Param("cursor") Long cursor,
+            @Param("limit") int limit
+    );
+
+    @Query(value = "SELECT p.* FROM pins p " +
+            "WHERE p.is_deleted = false " +
+            "AND p.is_public = true" +
+            KEYSET_CONDITION + KEYSET_ORDER,
+            nativeQuery = true)
+    List<Pin> findAllPublicPinsAfter(
+            @Param("cursor") Long cursor,
+            @Param("limit") int limit
+    );
+
+    // 핀 목록의 태그를 한 번에 fetch join (PinDto 변환 시 핀마다 태그를 조회하는 N+1 방지)
+    @Query("""
+    SELECT DISTINCT p FROM Pin p
+    LEFT JOIN FETCH p.pinTags pt
+    LEFT JOIN FETCH pt.tag
+    WHERE p.id IN :ids
+""")
+    List<Pin> findAllWithTagsByIdIn(@Param("ids") Collection<Long> ids);
+
     // id로 핀 조회
     @Query("""
     SELECT p FROM Pin p
@@ -157,6 +320,31 @@ public interface PinRepository extends JpaRepository<Pin,Long> {
         """, nativeQuery = true)
     void refreshLikeCountBatch(@Param("pinIds") Long[] pinIds);
 
+    // 좋아요 delta 일괄 반영 (write-behind flush)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+        UPDATE pins p
+        SET like_count = p.like_count + d.delta
+        FROM unnest(:pinIds, :deltas) AS d(pin_id, delta)
+        WHERE p.pin_id = d.pin_id
+        """, nativeQuery = true)
+    @Transactional
+    void addLikeCountDeltas(@Param("pinIds") Long[] pinIds, @Param("deltas") Long[] deltas);
+
+    // likes 테이블 기준으로 어긋난 like_count 전체 재계산
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+        UPDATE pins p
+        SET like_count = COALESCE(c.cnt, 0)
+        FROM pins p2
+        LEFT JOIN (SELECT l.pin_id, COUNT(*) AS cnt FROM likes l GROUP BY l.pin_id) c
+          ON c.pin_id = p2.pin_id
+        WHERE p.pin_id = p2.pin_id
+          AND p.like_count <> COALESCE(c.cnt, 0)
+        """, nativeQuery = true)
+    @Transactional
+    int refreshAllLikeCounts();
+
     @Modifying
     @Query("UPDATE Pin p SET p.deleted = true WHERE p.user.id = :userId AND p.deleted = false")
     int updatePinsToDeletedByUserId(@Param("userId") Long userId);
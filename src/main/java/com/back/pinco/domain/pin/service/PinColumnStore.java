@@ -0,0 +1,263 @@
+package com.back.pinco.domain.pin.service;
+
+import com.back.pinco.domain.pin.dto.PinDto;
+import com.back.pinco.domain.pin.entity.Pin;
+import com.back.pinco.global.geometry.GeohashUtil;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 공개 핀 메모리 저장소 (열 단위 기본형 배열, geohash 셀 순 정렬, 불변)
+ * - 핀 한 개당 좌표/ID/좋아요/시각이 기본형 배열 한 칸씩이라 엔티티나 JTS Point 보다 훨씬 작음
+ * - 행은 geohash 비트 값(Pin.CELL_PRECISION 자리, Z-order) 순이라 가까운 핀이 이웃 행에 모임
+ * - 범위 조회는 범위를 MAX_CELLS 개 이하의 셀로 덮고 셀마다 이진 탐색한 구간만 훑음 (위도 띠 전체를 훑지 않음)
+ *   객체를 만들지 않고 좌표만 비교하며, 결과에 든 핀만 PinDto 로 만듦
+ * - 변경은 새 저장소를 만들어 교체 (기존 행을 한 번 훑고 바뀐 행만 병합하므로 O(n))
+ * - 공개이면서 삭제되지 않은 핀만 담으므로 공개/삭제 여부는 따로 저장하지 않음
+ * - 내용(String)과 키워드 배열은 행마다 힙 객체로 남음 (키워드 문자열은 intern 으로 공유)
+ */
+public final class PinColumnStore {
+
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    private static final String[] NO_KEYWORDS = new String[0];
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    private static final int KEY_PRECISION = Pin.CELL_PRECISION;    // 정렬 키 geohash 길이 (pins.cell 과 같음)
+
+    private static final int MAX_CELLS = 16;    // 범위 조회 시 나누는 최대 셀 수 (많을수록 덜 훑지만 이진 탐색이 늘어남)
+
+    private static final Comparator<KeyedPin> CELL_ORDER =
+            Comparator.comparingLong(KeyedPin::key).thenComparingLong(keyed -> keyed.pin().id());
+
+    // 정렬 키를 한 번만 계산해 두고 정렬/병합
+    private record KeyedPin(long key, PinDto pin) {
+        static KeyedPin of(PinDto pin) {
+            return new KeyedPin(GeohashUtil.encodeKey(pin.latitude(), pin.longitude(), KEY_PRECISION), pin);
+        }
+    }
+
+    private final int size;
+    private final long[] cellKeys;    // geohash 비트 값 (정렬 키)
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final long[] ids;
+    private final long[] userIds;
+    private final int[] likeCounts;
+    private final long[] createdAts;     // epoch nanos (UTC 기준 LocalDateTime)
+    private final long[] modifiedAts;
+    private final String[] contents;
+    private final String[][] keywords;
+
+    private PinColumnStore(int size) {
+        this.size = size;
+        this.cellKeys = new long[size];
+        this.latitudes = new double[size];
+        this.longitudes = new double[size];
+        this.ids = new long[size];
+        this.userIds = new long[size];
+        this.likeCounts = new int[size];
+        this.createdAts = new long[size];
+        this.modifiedAts = new long[size];
+        this.contents = new String[size];
+        this.keywords = new String[size][];
+    }
+
+    public static PinColumnStore empty() {
+        return new PinColumnStore(0);
+    }
+
+    public static PinColumnStore of(Collection<PinDto> pins) {
+        List<KeyedPin> sorted = pins.stream().map(KeyedPin::of).sorted(CELL_ORDER).toList();
+        PinColumnStore store = new PinColumnStore(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            store.set(i, sorted.get(i));
+        }
+        return store;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 바뀐 핀을 반영한 새 저장소 (removedIds 와 changed 의 ID 는 기존 행에서 빠지고, changed 가 새로 들어감)
+    public PinColumnStore withChanges(Set<Long> removedIds, List<PinDto> changed) {
+        Set<Long> replaced = new HashSet<>(removedIds);
+        changed.forEach(pin -> replaced.add(pin.id()));
+        List<KeyedPin> added = changed.stream().map(KeyedPin::of).sorted(CELL_ORDER).toList();
+
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (!replaced.contains(ids[i])) kept++;
+        }
+
+        // 셀 순서를 유지하며 기존 행과 추가 행을 병합
+        PinColumnStore next = new PinColumnStore(kept + added.size());
+        int row = 0;
+        int a = 0;
+        for (int i = 0; i < size; i++) {
+            if (replaced.contains(ids[i])) continue;
+            while (a < added.size() && isBefore(added.get(a), cellKeys[i], ids[i])) {
+                next.set(row++, added.get(a++));
+            }
+            next.copyRow(row++, this, i);
+        }
+        while (a < added.size()) {
+            next.set(row++, added.get(a++));
+        }
+        return next;
+    }
+
+    private static boolean isBefore(KeyedPin keyed, long key, long id) {
+        return keyed.key() < key || (keyed.key() == key && keyed.pin().id() < id);
+    }
+
+    // 특정 작성자의 핀 ID
+    public Set<Long> idsByUser(long userId) {
+        Set<Long> result = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            if (userIds[i] == userId) result.add(ids[i]);
+        }
+        return result;
+    }
+
+    // 사각 범위 (경계 포함, pin_id 순)
+    public List<PinDto> findInEnvelope(double latMax, double lonMax, double latMin, double lonMin) {
+        int precision = GeohashUtil.coveringPrecision(latMin, lonMin, latMax, lonMax, KEY_PRECISION, MAX_CELLS);
+        List<PinDto> result = new ArrayList<>();
+        for (long[] range : keyRanges(GeohashUtil.coveringCells(latMin, lonMin, latMax, lonMax, precision))) {
+            for (int i = lowerBound(range[0]); i < size && cellKeys[i] < range[1]; i++) {
+                double lat = latitudes[i];
+                double lon = longitudes[i];
+                if (lat >= latMin && lat <= latMax && lon >= lonMin && lon <= lonMax) {
+                    result.add(toDto(i));
+                }
+            }
+        }
+        result.sort(Comparator.comparing(PinDto::id));
+        return result;
+    }
+
+    // 반경 (구면 거리 기준, pin_id 순)
+    public List<PinDto> findWithinRadius(double latitude, double longitude, double radiusInMeters) {
+        double lat1 = Math.toRadians(latitude);
+        double cosLat1 = Math.cos(lat1);
+        // haversine 의 a 값으로 비교해 행마다 asin/sqrt 를 하지 않음
+        double maxHalfChord = Math.sin(Math.min(radiusInMeters / EARTH_RADIUS_METERS, Math.PI) / 2);
+        double maxA = maxHalfChord * maxHalfChord;
+
+        // 날짜 변경선/극을 넘는 반경은 셀로 덮을 수 없으므로 전체를 훑음 (haversine 은 경도 차가 넘어가도 맞게 계산)
+        List<long[]> ranges = GeohashUtil.wrapsAround(latitude, longitude, radiusInMeters)
+                ? List.of(new long[]{Long.MIN_VALUE, Long.MAX_VALUE})
+                : keyRanges(GeohashUtil.coveringCells(latitude, longitude, radiusInMeters,
+                        GeohashUtil.coveringPrecision(latitude, longitude, radiusInMeters, KEY_PRECISION, MAX_CELLS)));
+
+        List<PinDto> result = new ArrayList<>();
+        for (long[] range : ranges) {
+            for (int i = lowerBound(range[0]); i < size && cellKeys[i] < range[1]; i++) {
+                double lat2 = Math.toRadians(latitudes[i]);
+                double sinDLat = Math.sin((lat2 - lat1) / 2);
+                double sinDLon = Math.sin(Math.toRadians(longitudes[i] - longitude) / 2);
+                double a = sinDLat * sinDLat + cosLat1 * Math.cos(lat2) * sinDLon * sinDLon;
+                if (a <= maxA) {
+                    result.add(toDto(i));
+                }
+            }
+        }
+        result.sort(Comparator.comparing(PinDto::id));
+        return result;
+    }
+
+    // 셀마다 [셀 첫 키, 다음 셀 첫 키) 정렬 키 범위
+    private static List<long[]> keyRanges(List<String> cells) {
+        List<long[]> ranges = new ArrayList<>(cells.size());
+        for (String cell : cells) {
+            long shift = 5L * (KEY_PRECISION - cell.length());
+            long key = GeohashUtil.keyOf(cell);
+            ranges.add(new long[]{key << shift, (key + 1) << shift});
+        }
+        return ranges;
+    }
+
+    // key 이상인 첫 행
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cellKeys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void set(int row, KeyedPin keyed) {
+        PinDto pin = keyed.pin();
+        cellKeys[row] = keyed.key();
+        latitudes[row] = pin.latitude();
+        longitudes[row] = pin.longitude();
+        ids[row] = pin.id();
+        userIds[row] = pin.userId();
+        likeCounts[row] = pin.likeCount();
+        createdAts[row] = toEpochNanos(pin.createdAt());
+        modifiedAts[row] = toEpochNanos(pin.modifiedAt());
+        contents[row] = pin.content();
+        // 키워드는 종류가 적으므로 intern 해 핀마다 같은 문자열을 따로 두지 않음
+        keywords[row] = pin.pinTags() == null
+                ? NO_KEYWORDS
+                : pin.pinTags().stream().map(String::intern).toArray(String[]::new);
+    }
+
+    private void copyRow(int row, PinColumnStore from, int fromRow) {
+        cellKeys[row] = from.cellKeys[fromRow];
+        latitudes[row] = from.latitudes[fromRow];
+        longitudes[row] = from.longitudes[fromRow];
+        ids[row] = from.ids[fromRow];
+        userIds[row] = from.userIds[fromRow];
+        likeCounts[row] = from.likeCounts[fromRow];
+        createdAts[row] = from.createdAts[fromRow];
+        modifiedAts[row] = from.modifiedAts[fromRow];
+        contents[row] = from.contents[fromRow];
+        keywords[row] = from.keywords[fromRow];
+    }
+
+    private PinDto toDto(int row) {
+        return new PinDto(
+                ids[row],
+                latitudes[row],
+                longitudes[row],
+                contents[row],
+                userIds[row],
+                List.of(keywords[row]),    // 내부 배열이 밖에서 바뀌지 않도록 복사
+                likeCounts[row],
+                true,
+                toDateTime(createdAts[row]),
+                toDateTime(modifiedAts[row])
+        );
+    }
+
+    private static long toEpochNanos(LocalDateTime time) {
+        if (time == null) return NO_TIME;
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + time.getNano();
+    }
+
+    private static LocalDateTime toDateTime(long epochNanos) {
+        if (epochNanos == NO_TIME) return null;
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(epochNanos, 1_000_000_000L),
+                (int) Math.floorMod(epochNanos, 1_000_000_000L),
+                ZoneOffset.UTC
+        );
+    }
+}
@@ -2,29 +2,65 @@ package com.back.pinco.domain.pin.service;
 
 import com.back.pinco.domain.likes.repository.LikesRepository;
 import com.back.pinco.domain.pin.dto.CreatePinRequest;
+import com.back.pinco.domain.pin.dto.PinCellCount;
+import com.back.pinco.domain.pin.dto.PinClusterProjection;
+import com.back.pinco.domain.pin.dto.PinDistanceDto;
+import com.back.pinco.domain.pin.dto.PinDistanceProjection;
+import com.back.pinco.domain.pin.dto.PinDto;
+import com.back.pinco.domain.pin.dto.PinPageResponse;
+import com.back.pinco.domain.pin.dto.PinRankEntry;
 import com.back.pinco.domain.pin.dto.UpdatePinContentRequest;
+import com.back.pinco.domain.pin.dto.VersionedPins;
 import com.back.pinco.domain.pin.entity.Pin;
+import com.back.pinco.domain.pin.event.PinChangedEvent;
+import com.back.pinco.domain.pin.repository.PinQueryRepository;
 import com.back.pinco.domain.pin.repository.PinRepository;
 import com.back.pinco.domain.user.entity.User;
+import com.back.pinco.domain.user.service.UserStatsService;
 import com.back.pinco.global.exception.ErrorCode;
 import com.back.pinco.global.exception.ServiceException;
+import com.back.pinco.global.geometry.GeohashUtil;
 import com.back.pinco.global.geometry.GeometryUtil;
-import jakarta.transaction.Transactional;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import org.locationtech.jts.geom.Point;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 @Service
 @RequiredArgsConstructor
 public class PinService {
+    private static final int CLUSTER_CELLS_PER_TILE = 8;    // 클러스터링 시 타일 한 변을 나누는 셀 개수
+    private static final int MAX_TILE_ZOOM = 22;    // 벡터 타일 최대 줌 레벨
+    private static final int DEFAULT_PAGE_SIZE = 50;    // 커서 조회 기본 페이지 크기
+    private static final int MAX_PAGE_SIZE = 200;    // 커서 조회 최대 페이지 크기
+    private static final int DEFAULT_NEAREST_LIMIT = 10;    // 가까운 핀 조회 기본 개수
+    private static final int MAX_NEAREST_LIMIT = 100;    // 가까운 핀 조회 최대 개수
+    private static final int DEFAULT_POPULAR_LIMIT = 10;    // 인기 핀 조회 기본 개수
+    private static final int MAX_SCREEN_CELLS = 16;    // 화면 범위 조회 시 나누는 최대 셀 범위 수
+    public static final int MAX_LIST_SIZE = 1000;    // 페이지 없는 목록 조회 최대 개수 (더 필요하면 커서 페이지 조회)
+
     private final PinRepository pinRepository;
+    private final PinQueryRepository pinQueryRepository;
+    private final PopularPinRanking popularPinRanking;
+    private final LikesRepository likesRepository;
+    private final UserStatsService userStatsService;
+    private final PublicPinIndex publicPinIndex;
+    private final PublicPinCellCache publicPinCellCache;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     public long count() {
@@ -32,12 +68,16 @@ public class PinService {
     }
 
 
+    @Transactional
     public Pin write(User actor, CreatePinRequest pinReqbody) {
         if(actor==null) throw new ServiceException(ErrorCode.PIN_NO_PERMISSION);
         Point point = GeometryUtil.createPoint(pinReqbody.longitude(), pinReqbody.latitude());
         try {
             Pin pin = new Pin(point, actor, pinReqbody.content());
-            return pinRepository.save(pin);
+            Pin saved = pinRepository.save(pin);
+            userStatsService.addPinCount(actor.getId(), 1, 0);
+            eventPublisher.publishEvent(PinChangedEvent.ofPin(saved.getId()));
+            return saved;
         }catch(Exception e){
             throw new ServiceException(ErrorCode.PIN_CREATE_FAILED);
         }
@@ -57,48 +97,254 @@ public class PinService {
         return pinRepository.findById(id).isPresent();
     }
 
-    public List<Pin> findAll(User actor) {
+    // 목록 조회는 엔티티를 거치지 않고 PinDto 로 바로 매핑 (actor 가 없으면 공개 핀만)
+    // 페이지 없는 목록 조회는 pin_id 순 MAX_LIST_SIZE + 1 개까지 (개수가 MAX_LIST_SIZE 를 넘으면 잘린 결과)
+    public List<PinDto> findAll(User actor) {
+        return pinQueryRepository.findAllPins(actorId(actor), MAX_LIST_SIZE + 1);
+    }
+
+    public List<PinDto> findNearPins(double latitude,double longitude, double radius, List<String> tags, User actor) {
+        return findNearPinsInMemory(latitude, longitude, radius, tags, actor)
+                .orElseGet(() -> pinQueryRepository.findPinsWithinRadius(latitude, longitude, radius, tags, actorId(actor), MAX_LIST_SIZE + 1));
+    }
+
+    // findNearPins 결과와 버전 (ETag)
+    public VersionedPins findNearPinsVersioned(double latitude, double longitude, double radius, List<String> tags, User actor) {
+        return findNearPinsInMemory(latitude, longitude, radius, tags, actor)
+                .map(pins -> VersionedPins.of(versionOf(pins), pins))
+                .orElseGet(() -> new VersionedPins(
+                        pinQueryRepository.findPinsWithinRadiusVersion(latitude, longitude, radius, tags, actorId(actor), MAX_LIST_SIZE + 1),
+                        () -> pinQueryRepository.findPinsWithinRadius(latitude, longitude, radius, tags, actorId(actor), MAX_LIST_SIZE + 1)
+                ));
+    }
+
+    // 비로그인 + 태그 조건 없음 → 공개 핀 메모리 인덱스, 없으면 셀 캐시 (범위가 너무 넓으면 DB 조회)
+    private Optional<List<PinDto>> findNearPinsInMemory(double latitude, double longitude, double radius, List<String> tags, User actor) {
+        if (actor != null || !hasNoTags(tags)) {
+            return Optional.empty();
+        }
+        if (publicPinIndex.isReady()) {
+            return Optional.of(limited(publicPinIndex.findWithinRadius(latitude, longitude, radius)));
+        }
+        return publicPinCellCache.findWithinRadius(latitude, longitude, radius).map(this::limited);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PinDistanceDto> findNearestPins(double latitude, double longitude, double radius, Integer limit, User actor) {
+        int size = limit == null ? DEFAULT_NEAREST_LIMIT : Math.max(1, Math.min(limit, MAX_NEAREST_LIMIT));
+        List<PinDistanceProjection> nearest;
+        if(actor==null){
+            nearest = pinRepository.findPublicNearestPins(latitude, longitude, radius, size);
+        }else {
+            nearest = pinRepository.findNearestPins(latitude, longitude, radius, actor.getId(), size);
+        }
+
+        // 거리 순서를 유지한 채 핀 엔티티와 결합
+        Map<Long, Pin> pinsById = pinRepository.findAllWithTagsByIdIn(
+                        nearest.stream().map(PinDistanceProjection::getId).toList()
+                ).stream()
+                .collect(Collectors.toMap(Pin::getId, Function.identity()));
+
+        return nearest.stream()
+                .filter(n -> pinsById.containsKey(n.getId()))
+                .map(n -> new PinDistanceDto(pinsById.get(n.getId()), n.getDistance()))
+                .toList();
+    }
+
+    // 반경 내 좋아요 상위 핀 (랭킹 스냅샷 기준 순위, 공개 핀만)
+    @Transactional(readOnly = true)
+    public List<PinDto> findPopularPins(double latitude, double longitude, double radius, Integer k) {
+        int size = k == null ? DEFAULT_POPULAR_LIMIT : Math.max(1, Math.min(k, PopularPinRanking.MAX_K));
+        List<Long> rankedIds = popularPinRanking.findTop(latitude, longitude, radius, size).stream()
+                .map(PinRankEntry::pinId)
+                .toList();
+
+        // 랭킹 갱신 이후 삭제/비공개된 핀은 제외하고 순위 유지
+        Map<Long, PinDto> pinsById = pinQueryRepository.findPinsByIds(rankedIds, null).stream()
+                .collect(Collectors.toMap(PinDto::id, Function.identity()));
+
+        return rankedIds.stream()
+                .filter(pinsById::containsKey)
+                .map(pinsById::get)
+                .toList();
+    }
+
+    public List<PinDto> findScreenPins(double latMax, double lonMax,double latMin,double lonMin, List<String> tags, User actor) {
+        return findScreenPinsInMemory(latMax, lonMax, latMin, lonMin, tags, actor)
+                .orElseGet(() -> pinQueryRepository.findScreenPinsInCells(screenCells(latMax, lonMax, latMin, lonMin), latMax, lonMax, latMin, lonMin, tags, actorId(actor), MAX_LIST_SIZE + 1));
+    }
+
+    // findScreenPins 결과와 버전 (ETag)
+    public VersionedPins findScreenPinsVersioned(double latMax, double lonMax, double latMin, double lonMin, List<String> tags, User actor) {
+        return findScreenPinsInMemory(latMax, lonMax, latMin, lonMin, tags, actor)
+                .map(pins -> VersionedPins.of(versionOf(pins), pins))
+                .orElseGet(() -> new VersionedPins(
+                        pinQueryRepository.findScreenPinsVersion(latMax, lonMax, latMin, lonMin, tags, actorId(actor), MAX_LIST_SIZE + 1),
+                        () -> pinQueryRepository.findScreenPinsInCells(screenCells(latMax, lonMax, latMin, lonMin), latMax, lonMax, latMin, lonMin, tags, actorId(actor), MAX_LIST_SIZE + 1)
+                ));
+    }
+
+    // 비로그인 + 태그 조건 없음 → 공개 핀 메모리 인덱스, 없으면 셀 캐시 (범위가 너무 넓으면 DB 조회)
+    private Optional<List<PinDto>> findScreenPinsInMemory(double latMax, double lonMax, double latMin, double lonMin, List<String> tags, User actor) {
+        if (actor != null || !hasNoTags(tags)) {
+            return Optional.empty();
+        }
+        if (publicPinIndex.isReady()) {
+            return Optional.of(limited(publicPinIndex.findInEnvelope(latMax, lonMax, latMin, lonMin)));
+        }
+        return publicPinCellCache.findInEnvelope(latMax, lonMax, latMin, lonMin).map(this::limited);
+    }
+
+    // 메모리 조회 결과(pin_id 순)도 DB 조회와 같이 MAX_LIST_SIZE + 1 개까지
+    private List<PinDto> limited(List<PinDto> pins) {
+        return pins.size() > MAX_LIST_SIZE + 1 ? pins.subList(0, MAX_LIST_SIZE + 1) : pins;
+    }
+
+    // 범위 안의 핀을 geohash 앞 precision 자리 셀별로 센 개수
+    public List<PinCellCount> findScreenCellCounts(double latMax, double lonMax, double latMin, double lonMin, int precision, User actor) {
+        return pinQueryRepository.countScreenPinsByCell(screenCells(latMax, lonMax, latMin, lonMin), precision, latMax, lonMax, latMin, lonMin, actorId(actor));
+    }
+
+    // 화면 범위를 MAX_SCREEN_CELLS 개 이하로 덮는 가장 작은 셀들
+    private List<String> screenCells(double latMax, double lonMax, double latMin, double lonMin) {
+        int precision = GeohashUtil.coveringPrecision(latMin, lonMin, latMax, lonMax, Pin.CELL_PRECISION, MAX_SCREEN_CELLS);
+        return GeohashUtil.coveringCells(latMin, lonMin, latMax, lonMax, precision);
+    }
+
+    public List<PinClusterProjection> findScreenClusters(double latMax, double lonMax, double latMin, double lonMin, int zoom, User actor) {
+        // 줌 레벨의 타일 한 장을 CLUSTER_CELLS_PER_TILE x CLUSTER_CELLS_PER_TILE 격자로 나눈 셀 크기(도 단위)
+        double cellSize = 360.0 / (1L << zoom) / CLUSTER_CELLS_PER_TILE;
+        List<PinClusterProjection> clusters;
+        if(actor==null){
+            clusters = pinRepository.findPublicScreenClusters(latMax,lonMax,latMin,lonMin,cellSize);
+        }else {
+            clusters = pinRepository.findScreenClusters(latMax,lonMax,latMin,lonMin,cellSize, actor.getId());
+        }
+        return clusters;
+    }
+
+    public byte[] findTile(int z, int x, int y, User actor) {
+        if (z < 0 || z > MAX_TILE_ZOOM) {
+            throw new ServiceException(ErrorCode.INVALID_TILE_COORDINATE);
+        }
+        long tileCount = 1L << z;
+        if (x < 0 || x >= tileCount || y < 0 || y >= tileCount) {
+            throw new ServiceException(ErrorCode.INVALID_TILE_COORDINATE);
+        }
+
+        if(actor==null){
+            return pinQueryRepository.findPublicTile(z, x, y);
+        }
+        return pinQueryRepository.findTile(z, x, y, actor.getId());
+    }
+
+    public List<PinDto> findDtosByUserId(User actor, User writer) {
+        return pinQueryRepository.findPinsByWriter(writer.getId(), actorId(actor));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Pin> findByUserId(User actor, User writer) {
         List<Pin> pins;
         if(actor==null){
-            pins= pinRepository.findAllPublicPins();
+            pins= pinRepository.findPublicByUser(writer.getId());
         }else {
-            pins = pinRepository.findAllAccessiblePins(actor.getId());
+            pins = pinRepository.findAccessibleByUser(writer.getId(), actor.getId());
         }
 
-        return pins;
+        return withTags(pins);
     }
 
-    public List<Pin> findNearPins(double latitude,double longitude, double radius, User actor) {
+    // ===== 커서 기반 페이지 조회 (pin_id 오름차순, limit + 1 개로 다음 페이지 여부 판단) =====
+
+    @Transactional(readOnly = true)
+    public PinPageResponse findAllPage(User actor, Long cursor, Integer size) {
+        int limit = pageSize(size);
         List<Pin> pins;
         if(actor==null){
-            pins=  pinRepository.findPublicPinsWithinRadius(latitude,longitude,radius);
+            pins = pinRepository.findAllPublicPinsAfter(cursorOf(cursor), limit + 1);
         }else {
-            pins =  pinRepository.findPinsWithinRadius(latitude,longitude,radius, actor.getId());
+            pins = pinRepository.findAllAccessiblePinsAfter(actor.getId(), cursorOf(cursor), limit + 1);
         }
-        return pins;
+        return PinPageResponse.of(withTags(pins), limit);
     }
 
-    public List<Pin> findScreenPins(double latMax, double lonMax,double latMin,double lonMin, User actor) {
+    @Transactional(readOnly = true)
+    public PinPageResponse findNearPinsPage(double latitude, double longitude, double radius, User actor, Long cursor, Integer size) {
+        int limit = pageSize(size);
         List<Pin> pins;
         if(actor==null){
-            pins=  pinRepository.findPublicScreenPins(latMax,lonMax,latMin,lonMin);
+            pins = pinRepository.findPublicPinsWithinRadiusAfter(latitude, longitude, radius, cursorOf(cursor), limit + 1);
         }else {
-            pins =  pinRepository.findScreenPins(latMax,lonMax,latMin,lonMin, actor.getId());
+            pins = pinRepository.findPinsWithinRadiusAfter(latitude, longitude, radius, actor.getId(), cursorOf(cursor), limit + 1);
         }
-        return pins;
+        return PinPageResponse.of(withTags(pins), limit);
     }
 
-    public List<Pin> findByUserId(User actor, User writer) {
+    @Transactional(readOnly = true)
+    public PinPageResponse findScreenPinsPage(double latMax, double lonMax, double latMin, double lonMin, User actor, Long cursor, Integer size) {
+        int limit = pageSize(size);
         List<Pin> pins;
         if(actor==null){
-            pins= pinRepository.findPublicByUser(writer.getId());
+            pins = pinRepository.findPublicScreenPinsAfter(latMax, lonMax, latMin, lonMin, cursorOf(cursor), limit + 1);
         }else {
-            pins = pinRepository.findAccessibleByUser(writer.getId(), actor.getId());
+            pins = pinRepository.findScreenPinsAfter(latMax, lonMax, latMin, lonMin, actor.getId(), cursorOf(cursor), limit + 1);
+        }
+        return PinPageResponse.of(withTags(pins), limit);
+    }
+
+    @Transactional(readOnly = true)
+    public PinPageResponse findByUserIdPage(User actor, User writer, Long cursor, Integer size) {
+        int limit = pageSize(size);
+        List<Pin> pins;
+        if(actor==null){
+            pins = pinRepository.findPublicByUserAfter(writer.getId(), cursorOf(cursor), limit + 1);
+        }else {
+            pins = pinRepository.findAccessibleByUserAfter(writer.getId(), actor.getId(), cursorOf(cursor), limit + 1);
         }
+        return PinPageResponse.of(withTags(pins), limit);
+    }
+
+    private Long actorId(User actor) {
+        return actor == null ? null : actor.getId();
+    }
+
+    // 메모리에서 만든 결과의 버전 (핀마다 id, 좋아요 수, 수정 시각, 태그를 이어 붙인 MD5, DB 경로와 같은 방식)
+    private static String versionOf(List<PinDto> pins) {
+        StringBuilder rows = new StringBuilder();
+        for (PinDto pin : pins) {
+            rows.append(pin.id()).append(':')
+                    .append(pin.likeCount()).append(':')
+                    .append(pin.modifiedAt()).append(':')
+                    .append(pin.pinTags()).append(',');
+        }
+        return "m-" + Long.toHexString(pins.size()) + "-" + DigestUtils.md5DigestAsHex(rows.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 태그 조건이 없는지 (빈 키워드는 조건으로 치지 않음, PinQueryRepository 와 동일)
+    private boolean hasNoTags(List<String> tags) {
+        return tags == null || tags.stream().allMatch(tag -> tag == null || tag.isBlank());
+    }
 
+    // 조회한 핀들의 태그를 fetch join 한 번으로 영속성 컨텍스트에 올려 PinDto 변환 시 추가 조회가 없도록 함
+    private List<Pin> withTags(List<Pin> pins) {
+        if (!pins.isEmpty()) {
+            pinRepository.findAllWithTagsByIdIn(pins.stream().map(Pin::getId).toList());
+        }
         return pins;
     }
 
+    // 요청 크기를 1 ~ MAX_PAGE_SIZE 로 제한
+    private int pageSize(Integer size) {
+        if (size == null) return DEFAULT_PAGE_SIZE;
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    // 첫 페이지는 커서 없이 요청
+    private long cursorOf(Long cursor) {
+        return cursor == null ? 0L : cursor;
+    }
+
+    @Transactional(readOnly = true)
     public List<Pin> findByUserIdDate(User actor, User writer, double year,double month) {
         System.out.println(year+" "+month+"-------------");
         List<Pin> pins;
@@ -108,7 +354,7 @@ public class PinService {
             pins = pinRepository.findAccessibleByUserDate(writer.getId(), actor.getId(), (int) year, (int) month);
         }
 
-        return pins;
+        return withTags(pins);
     }
 
     @Transactional
@@ -124,7 +370,7 @@ public class PinService {
             throw new ServiceException(ErrorCode.PIN_NO_PERMISSION);
         }
 
-
+        eventPublisher.publishEvent(PinChangedEvent.ofPin(pinId));
         return pin;
     }
 
@@ -141,11 +387,14 @@ public class PinService {
             throw new ServiceException(ErrorCode.PIN_NO_PERMISSION);
         }
 
+        eventPublisher.publishEvent(PinChangedEvent.ofPin(pinId));
         return pin;
     }
 
+    @Transactional
     public void deleteById(Long pinId, User actor) {
         Pin pin = pinRepository.findById(pinId).orElseThrow(()->new ServiceException(ErrorCode.PIN_NOT_FOUND));
+        boolean alreadyDeleted = Boolean.TRUE.equals(pin.getDeleted());
         if(pin.getUser().getId().equals(actor.getId())){
             try {
                 pin.setDeleted();
@@ -157,10 +406,19 @@ public class PinService {
         }
 
         pinRepository.save(pin);
+
+        // 삭제된 핀은 집계에서 빠지므로 받은 좋아요도 함께 차감
+        if(!alreadyDeleted){
+            userStatsService.addPinCount(actor.getId(), -1, -likesRepository.countByPinId(pinId));
+        }
+        eventPublisher.publishEvent(PinChangedEvent.ofPin(pinId));
     }
 
     @Transactional
     public int updateDeleteByUser(Long userId) {
-        return pinRepository.updatePinsToDeletedByUserId(userId);
+        int updated = pinRepository.updatePinsToDeletedByUserId(userId);
+        userStatsService.resetPinStats(userId);
+        eventPublisher.publishEvent(PinChangedEvent.ofWriter(userId));
+        return updated;
     }
 }
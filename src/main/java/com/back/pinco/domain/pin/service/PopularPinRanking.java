@@ -0,0 +1,79 @@
+package com.back.pinco.domain.pin.service;
+
+import com.back.pinco.domain.pin.dto.PinRankEntry;
+import com.back.pinco.domain.pin.repository.PinQueryRepository;
+import com.back.pinco.global.geometry.GeohashUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * geohash 셀별 좋아요 상위 핀 랭킹 (메모리 스냅샷)
+ * - 주기적으로 셀마다 상위 MAX_K 개만 DB 에서 다시 읽어 통째로 교체
+ * - 조회는 반경을 덮는 셀들의 상위 목록만 합치므로 범위 내 핀 수와 무관
+ * - 공개 핀만 대상 (좋아요 수는 갱신 주기만큼 늦을 수 있음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PopularPinRanking {
+
+    public static final int CELL_PRECISION = 5;   // 약 4.9km x 4.9km 셀
+
+    public static final int MAX_K = 50;           // 셀별로 보관하는 상위 핀 수 (조회 가능한 최대 k)
+
+    private static final Comparator<PinRankEntry> RANK_ORDER =
+            Comparator.comparingInt(PinRankEntry::likeCount).reversed()
+                    .thenComparingLong(PinRankEntry::pinId);
+
+    private final PinQueryRepository pinQueryRepository;
+
+    private volatile Map<String, List<PinRankEntry>> rankingByCell = Map.of();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            fixedDelayString = "${custom.pins.popular.refresh-interval-ms:60000}",
+            initialDelayString = "${custom.pins.popular.refresh-interval-ms:60000}"
+    )
+    public synchronized void refresh() {
+        Map<String, List<PinRankEntry>> refreshed = new HashMap<>();
+        // 셀 순, 셀 내 순위 순으로 정렬되어 오므로 그대로 쌓으면 셀별 목록도 순위 순
+        pinQueryRepository.findTopLikedPinsPerCell(CELL_PRECISION, MAX_K)
+                .forEach(entry -> refreshed.computeIfAbsent(entry.cell(), cell -> new ArrayList<>()).add(entry));
+
+        refreshed.replaceAll((cell, entries) -> List.copyOf(entries));
+        rankingByCell = Map.copyOf(refreshed);
+        log.debug("인기 핀 랭킹 갱신 완료. cells={}", refreshed.size());
+    }
+
+    // 반경 내 좋아요 상위 k 개 (좋아요 수 내림차순, 같으면 pin_id 순)
+    public List<PinRankEntry> findTop(double latitude, double longitude, double radiusInMeters, int k) {
+        Map<String, List<PinRankEntry>> snapshot = rankingByCell;
+        int limit = Math.min(k, MAX_K);
+
+        List<PinRankEntry> candidates = new ArrayList<>();
+        for (String cell : GeohashUtil.coveringCells(latitude, longitude, radiusInMeters, CELL_PRECISION)) {
+            int taken = 0;
+            // 셀 목록은 이미 순위 순이므로 반경 안의 앞쪽 limit 개만 후보가 될 수 있음
+            for (PinRankEntry entry : snapshot.getOrDefault(cell, List.of())) {
+                if (taken == limit) break;
+                if (GeohashUtil.distanceInMeters(latitude, longitude, entry.latitude(), entry.longitude()) <= radiusInMeters) {
+                    candidates.add(entry);
+                    taken++;
+                }
+            }
+        }
+
+        candidates.sort(RANK_ORDER);
+        return candidates.size() > limit ? List.copyOf(candidates.subList(0, limit)) : candidates;
+    }
+}
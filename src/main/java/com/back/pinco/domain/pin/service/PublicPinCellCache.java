@@ -0,0 +1,123 @@
+package com.back.pinco.domain.pin.service;
+
+import com.back.pinco.domain.pin.dto.PinDto;
+import com.back.pinco.domain.pin.entity.Pin;
+import com.back.pinco.domain.pin.event.PinChangedEvent;
+import com.back.pinco.domain.pin.repository.PinQueryRepository;
+import com.back.pinco.domain.pin.repository.PinRepository;
+import com.back.pinco.global.geometry.GeohashUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 비로그인 화면/반경 조회용 geohash 셀별 공개 핀 캐시 (custom.pins.cell-cache.enabled)
+ * - 요청 범위를 CELL_PRECISION 셀 격자로 맞춰 셀마다 공개 핀 목록을 캐시하고, 없는 셀만 한 번에 DB 조회
+ * - PinChangedEvent 로 바뀐 핀의 셀만 제거 (작성자 단위 변경은 전체 제거)
+ * - 캐시를 채우는 중에 커밋된 변경이나 좋아요 수는 TTL 만큼 늦을 수 있음
+ * - 범위가 MAX_CELLS 개보다 많은 셀에 걸치거나 반경이 날짜 변경선/극을 넘으면 캐시를 쓰지 않음 (Optional.empty)
+ */
+@Component
+public class PublicPinCellCache {
+
+    public static final int CELL_PRECISION = 6;    // 약 1.2km x 0.6km
+    private static final int MAX_CELLS = 64;
+
+    private static final Comparator<PinDto> PIN_ORDER = Comparator.comparing(PinDto::id);
+
+    private final boolean enabled;
+    private final PinQueryRepository pinQueryRepository;
+    private final PinRepository pinRepository;
+    private final Cache<String, List<PinDto>> byCell;
+
+    public PublicPinCellCache(
+            @Value("${custom.pins.cell-cache.enabled:true}") boolean enabled,
+            @Value("${custom.pins.cell-cache.max-size:10000}") long maxSize,
+            @Value("${custom.pins.cell-cache.ttl-seconds:30}") long ttlSeconds,
+            PinQueryRepository pinQueryRepository,
+            PinRepository pinRepository
+    ) {
+        this.enabled = enabled;
+        this.pinQueryRepository = pinQueryRepository;
+        this.pinRepository = pinRepository;
+        this.byCell = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    // 사각 범위 (경계 포함, pin_id 순)
+    public Optional<List<PinDto>> findInEnvelope(double latMax, double lonMax, double latMin, double lonMin) {
+        if (!enabled || GeohashUtil.coveringCellCount(latMin, lonMin, latMax, lonMax, CELL_PRECISION) > MAX_CELLS) {
+            return Optional.empty();
+        }
+        List<String> cells = GeohashUtil.coveringCells(latMin, lonMin, latMax, lonMax, CELL_PRECISION);
+        return Optional.of(collect(cells, pin ->
+                pin.latitude() >= latMin && pin.latitude() <= latMax
+                        && pin.longitude() >= lonMin && pin.longitude() <= lonMax));
+    }
+
+    // 반경 (구면 거리 기준, pin_id 순)
+    public Optional<List<PinDto>> findWithinRadius(double latitude, double longitude, double radiusInMeters) {
+        if (!enabled
+                || GeohashUtil.wrapsAround(latitude, longitude, radiusInMeters)
+                || GeohashUtil.coveringCellCount(latitude, longitude, radiusInMeters, CELL_PRECISION) > MAX_CELLS) {
+            return Optional.empty();
+        }
+        List<String> cells = GeohashUtil.coveringCells(latitude, longitude, radiusInMeters, CELL_PRECISION);
+        return Optional.of(collect(cells, pin ->
+                GeohashUtil.distanceInMeters(latitude, longitude, pin.latitude(), pin.longitude()) <= radiusInMeters));
+    }
+
+    // 커밋된 변경만 반영 (트랜잭션 밖에서 발행된 이벤트도 바로 반영)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPinChanged(PinChangedEvent event) {
+        if (!enabled) return;
+
+        if (event.pinId() != null) {
+            // 핀 위치는 바뀌지 않으므로 현재 셀만 제거하면 됨
+            pinRepository.findById(event.pinId())
+                    .map(Pin::getCell)
+                    .ifPresent(cell -> byCell.invalidate(cell.substring(0, CELL_PRECISION)));
+        } else if (event.writerId() != null) {
+            byCell.invalidateAll();
+        }
+    }
+
+    public void invalidateAll() {
+        byCell.invalidateAll();
+    }
+
+    private List<PinDto> collect(List<String> cells, Predicate<PinDto> filter) {
+        Map<String, List<PinDto>> pinsByCell = byCell.getAll(cells, this::load);
+
+        List<PinDto> result = new ArrayList<>();
+        for (String cell : cells) {
+            pinsByCell.getOrDefault(cell, List.of()).stream()
+                    .filter(filter)
+                    .forEach(result::add);
+        }
+        result.sort(PIN_ORDER);
+        return result;
+    }
+
+    // 없는 셀들을 한 번에 조회해 셀별로 나눔 (핀이 없는 셀도 빈 목록으로 캐시)
+    private Map<String, List<PinDto>> load(Collection<? extends String> cells) {
+        Map<String, List<PinDto>> loaded = pinQueryRepository.findPinsInCells(cells, null).stream()
+                .collect(Collectors.groupingBy(pin -> GeohashUtil.encode(pin.latitude(), pin.longitude(), CELL_PRECISION)));
+        cells.forEach(cell -> loaded.putIfAbsent(cell, List.of()));
+        return loaded;
+    }
+}
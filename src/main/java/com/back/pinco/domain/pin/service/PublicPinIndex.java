@@ -0,0 +1,126 @@
+package com.back.pinco.domain.pin.service;
+
+import com.back.pinco.domain.pin.dto.PinDto;
+import com.back.pinco.domain.pin.event.PinChangedEvent;
+import com.back.pinco.domain.pin.repository.PinQueryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공개 핀 메모리 공간 인덱스 (비로그인 화면/반경 조회용 읽기 복제본, custom.pins.memory-index.enabled)
+ * - 기동 시와 주기적으로 전체를 다시 읽고, 그 사이에는 PinChangedEvent 로 바뀐 핀만 DB 에서 다시 읽어 반영
+ * - 이벤트 리스너는 ID 만 큐에 넣고 바로 돌아감 (쓰기 요청 스레드는 잠금/DB 조회/복사를 하지 않음)
+ *   큐는 백그라운드 applyPending 이 모아서 반영하므로 변경은 apply-interval-ms 만큼 늦게 보일 수 있음
+ * - 저장소를 바꾸는 reload / applyPending 은 백그라운드에서만 실행되며 서로 직렬화됨
+ *   (재적재 중에 들어온 변경은 큐에 남아 있다가 새 저장소로 교체한 직후 반영)
+ * - 데이터는 PinColumnStore (geohash 셀 순 정렬 기본형 배열) 에 두고, 변경 시 새 저장소로 교체해 조회는 잠금 없이 처리
+ * - 좋아요 수는 전체 재적재 주기만큼 늦을 수 있음
+ */
+@Component
+@Slf4j
+public class PublicPinIndex {
+
+    private final boolean enabled;
+    private final PinQueryRepository pinQueryRepository;
+
+    // 반영 대기 중인 변경 (커밋 후 이벤트가 넣고 applyPending 이 비움)
+    private final Set<Long> pendingPinIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingWriterIds = ConcurrentHashMap.newKeySet();
+
+    private volatile PinColumnStore store = PinColumnStore.empty();
+    private volatile boolean loaded;
+
+    public PublicPinIndex(
+            @Value("${custom.pins.memory-index.enabled:false}") boolean enabled,
+            PinQueryRepository pinQueryRepository
+    ) {
+        this.enabled = enabled;
+        this.pinQueryRepository = pinQueryRepository;
+    }
+
+    // 메모리에서 응답할 수 있는 상태인지 (비활성이거나 아직 적재 전이면 DB 조회)
+    public boolean isReady() {
+        return enabled && loaded;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            fixedDelayString = "${custom.pins.memory-index.reload-interval-ms:60000}",
+            initialDelayString = "${custom.pins.memory-index.reload-interval-ms:60000}"
+    )
+    public synchronized void reload() {
+        if (!enabled) return;
+
+        // 스냅샷을 읽기 전에 큐에 있던 변경은 스냅샷에 포함되므로 버리고, 읽는 중에 들어온 변경은 교체 후 반영
+        drain(pendingPinIds);
+        drain(pendingWriterIds);
+        store = PinColumnStore.of(pinQueryRepository.findAllPins(null));
+        loaded = true;
+        log.debug("공개 핀 메모리 인덱스 적재 완료. pins={}", store.size());
+        applyPending();
+    }
+
+    // 커밋된 변경만 큐에 넣음 (트랜잭션 밖에서 발행된 이벤트도 바로 큐에 넣음)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPinChanged(PinChangedEvent event) {
+        if (!enabled) return;
+
+        if (event.pinId() != null) {
+            pendingPinIds.add(event.pinId());
+        } else if (event.writerId() != null) {
+            pendingWriterIds.add(event.writerId());
+        }
+    }
+
+    // 큐에 쌓인 변경을 한 번에 반영 (바뀐 핀만 DB 에서 다시 읽어 새 저장소로 교체)
+    @Scheduled(
+            fixedDelayString = "${custom.pins.memory-index.apply-interval-ms:200}",
+            initialDelayString = "${custom.pins.memory-index.apply-interval-ms:200}"
+    )
+    public synchronized void applyPending() {
+        if (!enabled || !loaded) return;
+
+        Set<Long> pinIds = drain(pendingPinIds);
+        Set<Long> writerIds = drain(pendingWriterIds);
+        if (pinIds.isEmpty() && writerIds.isEmpty()) return;
+
+        PinColumnStore next = store;
+        if (!pinIds.isEmpty()) {
+            next = next.withChanges(pinIds, pinQueryRepository.findPinsByIds(pinIds, null));
+        }
+        for (Long writerId : writerIds) {
+            next = next.withChanges(next.idsByUser(writerId), pinQueryRepository.findPinsByWriter(writerId, null));
+        }
+        store = next;
+    }
+
+    private static Set<Long> drain(Set<Long> pending) {
+        Set<Long> drained = new HashSet<>();
+        for (Iterator<Long> it = pending.iterator(); it.hasNext(); ) {
+            drained.add(it.next());
+            it.remove();
+        }
+        return drained;
+    }
+
+    // 사각 범위 (경계 포함, pin_id 순)
+    public List<PinDto> findInEnvelope(double latMax, double lonMax, double latMin, double lonMin) {
+        return store.findInEnvelope(latMax, lonMax, latMin, lonMin);
+    }
+
+    // 반경 (구면 거리 기준, pin_id 순)
+    public List<PinDto> findWithinRadius(double latitude, double longitude, double radiusInMeters) {
+        return store.findWithinRadius(latitude, longitude, radiusInMeters);
+    }
+}
@@ -1,18 +1,28 @@
 package com.back.pinco.domain.tag.controller;
 
+import com.back.pinco.domain.pin.dto.PinPageResponse;
 import com.back.pinco.domain.tag.dto.PinTagDto;
 import com.back.pinco.domain.tag.dto.TagDto;
+import com.back.pinco.domain.tag.dto.TagFilterMode;
+import com.back.pinco.domain.tag.dto.TagVersionProjection;
 import com.back.pinco.domain.tag.dto.request.AddTagToPinRequest;
 import com.back.pinco.domain.tag.dto.request.CreateTagRequest;
 import com.back.pinco.domain.tag.dto.response.*;
 import com.back.pinco.domain.tag.entity.PinTag;
 import com.back.pinco.domain.tag.service.PinTagService;
 import com.back.pinco.domain.tag.service.TagService;
+import com.back.pinco.global.rq.Rq;
 import com.back.pinco.global.rsData.RsData;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -21,10 +31,25 @@ public class TagController {
 
     private final TagService tagService;
     private final PinTagService pinTagService;
+    private final Rq rq;
 
     // 태그 전체 조회
     @GetMapping("/tags")
-    public RsData<GetAllTagsResponse> getAllTags() {
+    public RsData<GetAllTagsResponse> getAllTags(WebRequest webRequest) {
+        // 목록이 그대로면 조회와 직렬화 없이 304 (태그가 없으면 기존대로 TAG_NOT_FOUND)
+        // 브라우저가 응답을 저장하고 If-None-Match 로 재검증하도록 no-store 대신 no-cache
+        rq.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        TagVersionProjection version = tagService.getTagsVersion();
+        if (version.getCount() > 0) {
+            String etag = "%x-%x".formatted(version.getCount(), version.getMaxId());
+            long lastModified = version.getModifiedAt() == null
+                    ? -1
+                    : version.getModifiedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            if (webRequest.checkNotModified(etag, lastModified)) {
+                return null;
+            }
+        }
+
         List<TagDto> tags = tagService.getAllTags().stream()
                 .map(TagDto::new)
                 .toList();
@@ -48,6 +73,16 @@ public class TagController {
         return new RsData<>("200", "핀의 태그 목록 조회 성공", new GetTagsByPinResponse(pinId, tags));
     }
 
+    // 여러 핀에 연결된 태그 일괄 조회
+    @GetMapping("/tags/pins")
+    public RsData<GetTagsByPinsResponse> getTagsByPins(@RequestParam List<Long> pinIds) {
+        Map<Long, List<TagDto>> tags = new LinkedHashMap<>();
+        pinTagService.getTagsByPins(pinIds).forEach((pinId, pinTags) ->
+                tags.put(pinId, pinTags.stream().map(TagDto::new).toList())
+        );
+        return new RsData<>("200", "핀별 태그 목록 조회 성공", new GetTagsByPinsResponse(tags));
+    }
+
     // 태그 삭제 (Soft Delete)
     @DeleteMapping("/pins/{pinId}/tags/{tagId}")
     public RsData<RemoveTagFromPinResponse> removeTagFromPinResponse(
@@ -76,15 +111,25 @@ public class TagController {
         );
     }
 
-    // 여러 태그 기반 필터링 조회
+    // 여러 태그 기반 필터링 조회 (삭제되지 않은 공개 핀만, pin_id 커서 페이지)
     @GetMapping("/tags/filter")
-    public RsData<GetPinsByMultipleTagsResponse> getPinsByMultipleTags(@RequestParam List<String> keywords) {
-        List<GetFilteredPinResponse> pins = pinTagService.getPinsByMultipleTagKeywords(keywords)
+    public RsData<GetPinsByMultipleTagsResponse> getPinsByMultipleTags(
+            @RequestParam List<String> keywords,
+            @RequestParam(defaultValue = "AND") TagFilterMode mode,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        PinPageResponse page = pinTagService.getPinsByMultipleTagKeywords(keywords, mode, cursor, size);
+        List<GetFilteredPinResponse> pins = page.pins()
                 .stream()
                 .map(GetFilteredPinResponse::new)
                 .toList();
 
-        return new RsData<>("200", "태그 필터링 기반 게시물 목록 조회 성공", new GetPinsByMultipleTagsResponse(keywords, pins));
+        return new RsData<>(
+                "200",
+                "태그 필터링 기반 게시물 목록 조회 성공",
+                new GetPinsByMultipleTagsResponse(keywords, pins, page.nextCursor(), page.hasNext())
+        );
     }
 
     // 새로운 태그 생성 (관리자용)
@@ -0,0 +1,9 @@
+package com.back.pinco.domain.tag.dto;
+
+/**
+ * 여러 태그로 핀을 필터링할 때의 결합 방식
+ */
+public enum TagFilterMode {
+    AND,    // 모든 태그가 달린 핀
+    OR      // 하나 이상의 태그가 달린 핀
+}
@@ -0,0 +1,14 @@
+package com.back.pinco.domain.tag.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 태그 목록 버전 (조건부 GET 의 ETag / Last-Modified 계산용)
+ */
+public interface TagVersionProjection {
+    Long getCount();
+
+    Long getMaxId();
+
+    LocalDateTime getModifiedAt();
+}
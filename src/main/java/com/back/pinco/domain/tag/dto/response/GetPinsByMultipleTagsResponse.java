@@ -4,5 +4,7 @@ import java.util.List;
 
 public record GetPinsByMultipleTagsResponse(
         List<String> keywords,
-        List<GetFilteredPinResponse> pins
+        List<GetFilteredPinResponse> pins,
+        Long nextCursor,
+        boolean hasNext
 ) {}
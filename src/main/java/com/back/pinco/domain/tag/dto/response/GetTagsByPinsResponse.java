@@ -0,0 +1,10 @@
+package com.back.pinco.domain.tag.dto.response;
+
+import com.back.pinco.domain.tag.dto.TagDto;
+
+import java.util.List;
+import java.util.Map;
+
+public record GetTagsByPinsResponse(
+        Map<Long, List<TagDto>> tags
+) {}
@@ -1,11 +1,11 @@
 package com.back.pinco.domain.tag.repository;
 
-import com.back.pinco.domain.pin.entity.Pin;
 import com.back.pinco.domain.tag.entity.PinTag;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,13 +13,43 @@ public interface PinTagRepository extends JpaRepository<PinTag, Long> {
     // 특정 핀에 연결된 삭제되지 않은 PinTag 목록 조회
     List<PinTag> findAllByPin_IdAndDeletedFalse(Long pinId);
 
+    // 여러 핀에 연결된 삭제되지 않은 PinTag 를 태그와 함께 한 번에 조회
+    @Query("SELECT pt FROM PinTag pt " +
+            "JOIN FETCH pt.tag " +
+            "WHERE pt.pin.id IN :pinIds AND pt.deleted = false " +
+            "ORDER BY pt.id")
+    List<PinTag> findActiveWithTagByPinIds(@Param("pinIds") Collection<Long> pinIds);
+
     // 특정 핀과 태그에 대한 PinTag 조회
     Optional<PinTag> findByPin_IdAndTag_Id(Long pinId, Long tagId);
 
-    // 특정 태그 키워드와 연결된 삭제되지 않은 핀 목록 조회
-    @Query("SELECT pt.pin FROM PinTag pt " +
-            "JOIN pt.tag t " +
-            "WHERE t.keyword = :keyword AND pt.deleted = false")
-    List<Pin> findPinsByTagKeyword(@Param("keyword") String keyword);
+    // 태그 필터 대상: 삭제되지 않은 공개 핀과 삭제되지 않은 태그 연결
+    String ACTIVE_PIN_TAG_JOIN =
+            "FROM pin_tags pt " +
+                    "JOIN pins p ON p.pin_id = pt.pin_id " +
+                    "WHERE pt.tag_id IN (:tagIds) " +
+                    "AND pt.is_deleted = false " +
+                    "AND p.is_deleted = false " +
+                    "AND p.is_public = true ";
+
+    // 주어진 태그 중 required 개 이상이 달린 핀 ID 를 pin_id 커서 이후로 limit 개까지 조회
+    // (AND: required = 태그 수, OR: required = 1)
+    @Query(value = "SELECT pt.pin_id " + ACTIVE_PIN_TAG_JOIN +
+            "AND pt.pin_id > :cursor " +
+            "GROUP BY pt.pin_id " +
+            "HAVING COUNT(DISTINCT pt.tag_id) >= :required " +
+            "ORDER BY pt.pin_id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findPinIdsByTagIds(
+            @Param("tagIds") Collection<Long> tagIds,
+            @Param("required") int required,
+            @Param("cursor") Long cursor,
+            @Param("limit") int limit
+    );
+
+    // 주어진 태그 중 연결된 핀이 하나라도 있는 태그 수
+    @Query(value = "SELECT COUNT(DISTINCT pt.tag_id) " + ACTIVE_PIN_TAG_JOIN, nativeQuery = true)
+    long countTagsHavingPins(@Param("tagIds") Collection<Long> tagIds);
 }
 
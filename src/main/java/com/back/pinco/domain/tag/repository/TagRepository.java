@@ -1,15 +1,26 @@
 package com.back.pinco.domain.tag.repository;
 
+import com.back.pinco.domain.tag.dto.TagVersionProjection;
 import com.back.pinco.domain.tag.entity.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
     // 키워드로 태그 조회
     Optional<Tag> findByKeyword(String keyword);
 
+    // 여러 키워드로 태그 조회
+    List<Tag> findAllByKeywordIn(Collection<String> keywords);
+
     // 키워드 존재 여부 확인
     boolean existsByKeyword(String keyword);
+
+    // 태그 목록 버전 (개수 + 최대 ID + 최근 수정 시각, 태그는 생성만 되므로 목록이 바뀌면 함께 바뀜)
+    @Query("SELECT COUNT(t) AS count, MAX(t.id) AS maxId, MAX(t.modifiedAt) AS modifiedAt FROM Tag t")
+    TagVersionProjection findVersion();
 }
 
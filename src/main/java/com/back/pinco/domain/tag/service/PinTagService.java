@@ -1,7 +1,10 @@
 package com.back.pinco.domain.tag.service;
 
+import com.back.pinco.domain.pin.dto.PinPageResponse;
 import com.back.pinco.domain.pin.entity.Pin;
+import com.back.pinco.domain.pin.event.PinChangedEvent;
 import com.back.pinco.domain.pin.repository.PinRepository;
+import com.back.pinco.domain.tag.dto.TagFilterMode;
 import com.back.pinco.domain.tag.entity.PinTag;
 import com.back.pinco.domain.tag.entity.Tag;
 import com.back.pinco.domain.tag.repository.PinTagRepository;
@@ -9,22 +12,32 @@ import com.back.pinco.domain.tag.repository.TagRepository;
 import com.back.pinco.global.exception.ErrorCode;
 import com.back.pinco.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class PinTagService {
 
+    private static final int MAX_BULK_PIN_IDS = 1000; // 태그 일괄 조회 시 한 번에 받을 수 있는 최대 핀 수
+    private static final int DEFAULT_PAGE_SIZE = 50; // 태그 필터 조회 기본 페이지 크기
+    private static final int MAX_PAGE_SIZE = 200; // 태그 필터 조회 최대 페이지 크기
+
     private final TagRepository tagRepository;
     private final PinTagRepository pinTagRepository;
     private final PinRepository pinRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /* =====================================================
         주요 비즈니스 로직 (Public Method)
@@ -37,7 +50,9 @@ public class PinTagService {
         Pin pin = findPinById(pinId); // 핀 존재 여부 검증
         Tag tag = findOrCreateTag(keyword); // 태그 조회 또는 생성
         handleExistingPinTag(pinId, tag); // 기존 연결 처리
-        return saveNewPinTag(pin, tag); // 새로운 핀-태그 연결 저장
+        PinTag pinTag = saveNewPinTag(pin, tag); // 새로운 핀-태그 연결 저장
+        eventPublisher.publishEvent(PinChangedEvent.ofPin(pinId)); // 메모리 읽기 경로 갱신
+        return pinTag;
     }
 
     // 핀에 연결된 태그 조회
@@ -49,11 +64,23 @@ public class PinTagService {
         return tags; // 태그 목록 반환
     }
 
+    // 여러 핀에 연결된 태그 일괄 조회 (요청한 핀 순서 유지, 태그가 없는 핀은 빈 목록)
+    @Transactional(readOnly = true)
+    public Map<Long, List<Tag>> getTagsByPins(List<Long> pinIds) {
+        validatePinIdList(pinIds); // 입력값 검증
+        Map<Long, List<Tag>> tagsByPin = new LinkedHashMap<>();
+        pinIds.forEach(pinId -> tagsByPin.put(pinId, new ArrayList<>()));
+        pinTagRepository.findActiveWithTagByPinIds(tagsByPin.keySet())
+                .forEach(pinTag -> tagsByPin.get(pinTag.getPin().getId()).add(pinTag.getTag()));
+        return tagsByPin; // 핀별 태그 목록 반환
+    }
+
     // 태그 삭제
     @Transactional
     public void removeTagFromPin(Long pinId, Long tagId) {
         PinTag pinTag = findPinTagOrThrow(pinId, tagId); // 핀-태그 연결 조회
         deletePinTag(pinTag); // 핀-태그 연결 삭제
+        eventPublisher.publishEvent(PinChangedEvent.ofPin(pinId)); // 메모리 읽기 경로 갱신
     }
 
     // 태그 복구
@@ -62,6 +89,7 @@ public class PinTagService {
         PinTag pinTag = findPinTagOrThrow(pinId, tagId); // 핀-태그 연결 조회
         validateDeletedState(pinTag); // 삭제 상태 검증
         restorePinTag(pinTag); // 핀-태그 연결 복구
+        eventPublisher.publishEvent(PinChangedEvent.ofPin(pinId)); // 메모리 읽기 경로 갱신
     }
 
     // 여러 태그를 핀에 연결(PinController용)
@@ -69,17 +97,30 @@ public class PinTagService {
     public List<Tag> linkTagsToPin(Long pinId, List<String> tagKeywords) {
         validateKeywordList(tagKeywords); // 입력값 검증
         Pin pin = findPinById(pinId); // 핀 존재 여부 검증
-        return processTagLinks(pin, tagKeywords); // 태그 연결 처리
+        List<Tag> tags = processTagLinks(pin, tagKeywords); // 태그 연결 처리
+        eventPublisher.publishEvent(PinChangedEvent.ofPin(pinId)); // 메모리 읽기 경로 갱신
+        return tags;
     }
 
-    // 여러 태그로 핀 조회
+    // 여러 태그로 핀 조회 (pin_id 커서 기반 페이지)
     @Transactional(readOnly = true)
-    public List<Pin> getPinsByMultipleTagKeywords(List<String> keywords) {
+    public PinPageResponse getPinsByMultipleTagKeywords(List<String> keywords, TagFilterMode mode, Long cursor, Integer size) {
         validateKeywordList(keywords); // 입력값 검증
-        List<List<Pin>> pinsByEachTag = findPinsByTags(keywords); // 태그별 핀 조회
-        List<Pin> intersection = intersectPins(pinsByEachTag); // 교집합 계산
-        validateResultPins(intersection); // 결과 검증
-        return intersection; // 핀 목록 반환
+        List<Long> tagIds = findTagIdsOrThrow(keywords); // 태그 존재 여부 검증
+        int limit = pageSize(size);
+        int required = mode == TagFilterMode.OR ? 1 : tagIds.size();
+
+        // SQL 에서 태그 교집합/합집합 계산 (limit + 1 개로 다음 페이지 여부 판단)
+        List<Long> pinIds = pinTagRepository.findPinIdsByTagIds(tagIds, required, cursor == null ? 0L : cursor, limit + 1);
+        if (pinIds.isEmpty() && cursor == null) {
+            validateTagsHavePins(tagIds); // 태그별 연결 핀 존재 여부 검증
+            throw new ServiceException(ErrorCode.TAG_POSTS_NOT_FOUND);
+        }
+
+        List<Pin> pins = pinRepository.findAllWithTagsByIdIn(pinIds).stream()
+                .sorted(Comparator.comparing(Pin::getId))
+                .toList();
+        return PinPageResponse.of(pins, limit); // 핀 목록 반환
     }
 
     // 초기 데이터용 핀-태그 연결 생성
@@ -88,7 +129,9 @@ public class PinTagService {
         if (ObjectUtils.isEmpty(pin) || ObjectUtils.isEmpty(tag)) {
             throw new ServiceException(ErrorCode.INVALID_TAG_INPUT);
         }
-        return pinTagRepository.save(new PinTag(pin, tag));
+        PinTag pinTag = pinTagRepository.save(new PinTag(pin, tag));
+        eventPublisher.publishEvent(PinChangedEvent.ofPin(pin.getId())); // 메모리 읽기 경로 갱신
+        return pinTag;
     }
 
     /* =====================================================
@@ -111,6 +154,13 @@ public class PinTagService {
         }
     }
 
+    // 일괄 조회 핀 ID 리스트 검증
+    private void validatePinIdList(List<Long> pinIds) {
+        if (CollectionUtils.isEmpty(pinIds) || pinIds.size() > MAX_BULK_PIN_IDS || pinIds.contains(null)) {
+            throw new ServiceException(ErrorCode.INVALID_TAG_INPUT);
+        }
+    }
+
     // 핀 존재 여부 검증
     private void validatePinExists(Long pinId) {
         if (!pinRepository.existsById(pinId)) {
@@ -132,10 +182,10 @@ public class PinTagService {
         }
     }
 
-    // 결과 핀 리스트 검증
-    private void validateResultPins(List<Pin> pins) {
-        if (CollectionUtils.isEmpty(pins)) {
-            throw new ServiceException(ErrorCode.TAG_POSTS_NOT_FOUND);
+    // 태그마다 연결된 핀이 있는지 검증
+    private void validateTagsHavePins(List<Long> tagIds) {
+        if (pinTagRepository.countTagsHavingPins(tagIds) < tagIds.size()) {
+            throw new ServiceException(ErrorCode.PIN_TAG_LIST_EMPTY);
         }
     }
 
@@ -167,23 +217,22 @@ public class PinTagService {
                 .toList();
     }
 
-    // 여러 태그로 핀 조회
-    private List<List<Pin>> findPinsByTags(List<String> keywords) {
-        return keywords.stream()
-                .map(this::getPinsBySingleTagKeyword)
+    // 여러 키워드의 태그 ID 조회 (하나라도 없으면 예외)
+    private List<Long> findTagIdsOrThrow(List<String> keywords) {
+        Set<String> distinctKeywords = new HashSet<>(keywords);
+        List<Tag> tags = tagRepository.findAllByKeywordIn(distinctKeywords);
+        if (tags.size() < distinctKeywords.size()) {
+            throw new ServiceException(ErrorCode.TAG_NOT_FOUND);
+        }
+        return tags.stream()
+                .map(Tag::getId)
                 .toList();
     }
 
-    // 단일 태그 키워드로 핀 조회
-    private List<Pin> getPinsBySingleTagKeyword(String keyword) {
-        tagRepository.findByKeyword(keyword)
-                .orElseThrow(() -> new ServiceException(ErrorCode.TAG_NOT_FOUND));
-
-        List<Pin> pins = pinTagRepository.findPinsByTagKeyword(keyword);
-        if (CollectionUtils.isEmpty(pins)) {
-            throw new ServiceException(ErrorCode.PIN_TAG_LIST_EMPTY);
-        }
-        return pins;
+    // 요청 크기를 1 ~ MAX_PAGE_SIZE 로 제한
+    private int pageSize(Integer size) {
+        if (size == null) return DEFAULT_PAGE_SIZE;
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
     }
 
     // ===== 조작 유틸 =====
@@ -251,16 +300,5 @@ public class PinTagService {
                         () -> pinTagRepository.save(new PinTag(pin, tag, false))
                 );
     }
-
-    // 태그별 핀 교집합 계산
-    private List<Pin> intersectPins(List<List<Pin>> pinsByEachTag) {
-        if (CollectionUtils.isEmpty(pinsByEachTag)) {
-            return Collections.emptyList();
-        }
-
-        List<Pin> result = new ArrayList<>(pinsByEachTag.get(0));
-        pinsByEachTag.stream().skip(1).forEach(result::retainAll);
-        return result;
-    }
 }
 
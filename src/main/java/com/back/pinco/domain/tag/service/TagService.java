@@ -1,5 +1,6 @@
 package com.back.pinco.domain.tag.service;
 
+import com.back.pinco.domain.tag.dto.TagVersionProjection;
 import com.back.pinco.domain.tag.entity.Tag;
 import com.back.pinco.domain.tag.repository.TagRepository;
 import com.back.pinco.global.exception.ErrorCode;
@@ -29,6 +30,11 @@ public class TagService {
         return tags; // 반환
     }
 
+    // 태그 목록 버전 (전체 조회 없이 조건부 GET 비교용)
+    public TagVersionProjection getTagsVersion() {
+        return tagRepository.findVersion();
+    }
+
     // 태그 생성
     @Transactional
     public Tag createTag(String keyword) {
@@ -3,17 +3,19 @@ package com.back.pinco.domain.user.controller;
 import com.back.pinco.domain.likes.dto.PinsLikedByUserResponse;
 import com.back.pinco.domain.likes.service.LikesService;
 import com.back.pinco.domain.pin.dto.PinDto;
-import com.back.pinco.domain.pin.entity.Pin;
 import com.back.pinco.domain.user.dto.UserDto;
 import com.back.pinco.domain.user.dto.UserReqBody.*;
 import com.back.pinco.domain.user.dto.UserResBody.*;
 import com.back.pinco.domain.user.entity.User;
+import com.back.pinco.domain.user.entity.UserStats;
 import com.back.pinco.domain.user.service.AuthService;
 import com.back.pinco.domain.user.service.UserService;
+import com.back.pinco.domain.user.service.UserStatsService;
 import com.back.pinco.global.exception.ErrorCode;
 import com.back.pinco.global.exception.ServiceException;
 import com.back.pinco.global.rq.Rq;
 import com.back.pinco.global.rsData.RsData;
+import com.back.pinco.global.security.JwtClaims;
 import com.back.pinco.global.security.JwtTokenProvider;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -33,6 +35,7 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
+    private final UserStatsService userStatsService;
     private final LikesService likesService;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthService authService;
@@ -103,10 +106,9 @@ public class UserController {
             @RequestBody Map<String, String> body
     ) {
         String refreshToken = body.getOrDefault("refreshToken", "");
-        if (refreshToken.isBlank() || !jwtTokenProvider.isValid(refreshToken)) {
-            throw new ServiceException(ErrorCode.INVALID_ACCESS_TOKEN);
-        }
-        Long userId = jwtTokenProvider.getUserId(refreshToken);
+        Long userId = jwtTokenProvider.verify(refreshToken)
+                .map(JwtClaims::id)
+                .orElseThrow(() -> new ServiceException(ErrorCode.INVALID_ACCESS_TOKEN));
         User user = userService.findById(userId);
 
         String newAccess = authService.genAccessToken(user);
@@ -183,24 +185,17 @@ public class UserController {
     public RsData<MyPageResponse> myPage() {
         // 로그인 사용자
         User user = rq.getActor();
-        List<Pin> listPin = userService.getMyPins(); // DB 접근은 한 번만
         if (user == null) {
             throw new ServiceException(ErrorCode.AUTH_REQUIRED);
         }
-        // 2) 내가 작성한 핀 개수
-        int pinCount = listPin.size();
-
-        // 3) 내가 북마크한 핀 개수
-        int bookmarkCount = userService.getMyBookmarks().size();
-
-        // 내가 지금까지 받은 총 '좋아요 수'
-        long likesCount = userService.likesCount(listPin);
+        // 내가 작성한 핀 개수, 북마크한 핀 개수, 지금까지 받은 총 '좋아요 수' (user_stats 기본키 조회)
+        UserStats stats = userStatsService.getStats(user.getId());
 
         return new RsData<>(
                 "200",
                 "마이페이지 조회 성공",
                 new MyPageResponse(
-                        new UserDto(user), pinCount, bookmarkCount, likesCount)
+                        new UserDto(user), (int) stats.getPinCount(), (int) stats.getBookmarkCount(), stats.getLikesReceived())
                 );
     }
 
@@ -0,0 +1,37 @@
+package com.back.pinco.domain.user.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 집계 값 (핀/북마크/받은 좋아요 수)
+ * - 각 쓰기 경로에서 같은 트랜잭션 안에 증감 (UserStatsService)
+ * - 값이 어긋나면 --rebuild-user-stats 로 원본 테이블 기준 재계산
+ */
+@Entity
+@NoArgsConstructor
+@Getter
+@Table(name = "user_stats")
+public class UserStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;    // 사용자 ID
+
+    @Column(name = "pin_count", nullable = false)
+    private long pinCount;    // 작성한 핀 수 (삭제 제외)
+
+    @Column(name = "bookmark_count", nullable = false)
+    private long bookmarkCount;    // 북마크 수 (삭제 제외)
+
+    @Column(name = "likes_received", nullable = false)
+    private long likesReceived;    // 작성한 핀이 받은 좋아요 수 (삭제된 핀 제외)
+
+    public UserStats(Long userId) {
+        this.userId = userId;
+    }
+}
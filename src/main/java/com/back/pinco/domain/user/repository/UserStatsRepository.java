@@ -0,0 +1,73 @@
+package com.back.pinco.domain.user.repository;
+
+import com.back.pinco.domain.user.entity.UserStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+    String UPSERT_CONFLICT = """
+        ON CONFLICT (user_id) DO UPDATE SET
+            pin_count = user_stats.pin_count + EXCLUDED.pin_count,
+            bookmark_count = user_stats.bookmark_count + EXCLUDED.bookmark_count,
+            likes_received = user_stats.likes_received + EXCLUDED.likes_received
+        """;
+
+    // 사용자 한 명의 집계 값 증감 (행이 없으면 생성)
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO user_stats (user_id, pin_count, bookmark_count, likes_received)
+        VALUES (:userId, :pinDelta, :bookmarkDelta, :likesDelta)
+        """ + UPSERT_CONFLICT, nativeQuery = true)
+    void addDeltas(
+            @Param("userId") Long userId,
+            @Param("pinDelta") long pinDelta,
+            @Param("bookmarkDelta") long bookmarkDelta,
+            @Param("likesDelta") long likesDelta
+    );
+
+    // 핀별 좋아요 증감을 핀 작성자 기준으로 합쳐 반영 (삭제된 핀은 집계 대상이 아니므로 제외)
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO user_stats (user_id, pin_count, bookmark_count, likes_received)
+        SELECT p.user_id, 0, 0, SUM(d.delta)
+        FROM unnest(:pinIds, :deltas) AS d(pin_id, delta)
+        JOIN pins p ON p.pin_id = d.pin_id
+        WHERE p.is_deleted = false
+        GROUP BY p.user_id
+        ORDER BY p.user_id
+        """ + UPSERT_CONFLICT, nativeQuery = true)
+    void addLikesReceived(@Param("pinIds") Long[] pinIds, @Param("deltas") Long[] deltas);
+
+    // 사용자의 핀이 모두 삭제된 경우 (회원 탈퇴)
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        UPDATE user_stats
+        SET pin_count = 0, likes_received = 0
+        WHERE user_id = :userId
+        """, nativeQuery = true)
+    void resetPinStats(@Param("userId") Long userId);
+
+    // 원본 테이블 기준 전체 재계산
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO user_stats (user_id, pin_count, bookmark_count, likes_received)
+        SELECT u.user_id,
+               (SELECT COUNT(*) FROM pins p
+                WHERE p.user_id = u.user_id AND p.is_deleted = false),
+               (SELECT COUNT(*) FROM bookmarks b
+                WHERE b.user_id = u.user_id AND b.is_deleted = false),
+               (SELECT COUNT(*) FROM likes l JOIN pins p ON p.pin_id = l.pin_id
+                WHERE p.user_id = u.user_id AND p.is_deleted = false)
+        FROM users u
+        ON CONFLICT (user_id) DO UPDATE SET
+            pin_count = EXCLUDED.pin_count,
+            bookmark_count = EXCLUDED.bookmark_count,
+            likes_received = EXCLUDED.likes_received
+        """, nativeQuery = true)
+    int rebuildAll();
+}
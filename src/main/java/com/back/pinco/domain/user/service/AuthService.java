@@ -52,8 +52,8 @@ public class AuthService {
         }
 
         // (선택) access 블랙리스트
-        if (tokenBlacklistService != null && StringUtils.hasText(accessToken) && jwttokenProvider.isValid(accessToken)) {
-            long remainMs = jwttokenProvider.getRemainingValidityMillis(accessToken);
+        if (tokenBlacklistService != null && StringUtils.hasText(accessToken)) {
+            long remainMs = jwttokenProvider.getRemainingValidityMillis(accessToken);   // 무효 토큰이면 0
             if (remainMs > 0) tokenBlacklistService.blacklist(accessToken, remainMs);
         }
 
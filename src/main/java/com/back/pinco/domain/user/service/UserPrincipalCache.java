@@ -0,0 +1,73 @@
+package com.back.pinco.domain.user.service;
+
+import com.back.pinco.domain.user.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 인증 필터가 매 요청 조회하는 사용자(principal) 캐시
+ * - user id (access 토큰의 사용자가 아직 존재하는지 확인) / apiKey (apiKey 인증) 두 키로 조회, 크기와 TTL 로 제한
+ * - 사용자 정보가 바뀌거나 탈퇴하면 UserService 에서 invalidate (트랜잭션 중이면 커밋/롤백 후 한 번 더 제거해
+ *   커밋 전에 다른 요청이 옛 값을 다시 채워 넣는 경우를 막음)
+ * - 캐시에 있는 User 는 영속성 컨텍스트와 분리된 객체이므로 직접 수정하지 않는다
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final Cache<Long, User> byId;
+    private final Cache<String, User> byApiKey;
+
+    public UserPrincipalCache(
+            @Value("${custom.auth.principal-cache.max-size:10000}") long maxSize,
+            @Value("${custom.auth.principal-cache.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.byApiKey = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    // 없으면 loader 로 조회해 채움 (조회 결과가 없으면 캐시하지 않음)
+    public Optional<User> getById(Long id, Function<Long, Optional<User>> loader) {
+        return Optional.ofNullable(byId.get(id, key -> loader.apply(key).orElse(null)));
+    }
+
+    public Optional<User> getByApiKey(String apiKey, Function<String, Optional<User>> loader) {
+        return Optional.ofNullable(byApiKey.get(apiKey, key -> loader.apply(key).orElse(null)));
+    }
+
+    public void invalidate(Long userId, String apiKey) {
+        evict(userId, apiKey);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(userId, apiKey);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        byId.invalidateAll();
+        byApiKey.invalidateAll();
+    }
+
+    private void evict(Long userId, String apiKey) {
+        if (userId != null) byId.invalidate(userId);
+        if (apiKey != null) byApiKey.invalidate(apiKey);
+    }
+}
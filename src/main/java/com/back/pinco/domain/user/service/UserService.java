@@ -32,6 +32,7 @@ public class UserService {
     private final BookmarkService bookmarkService;
     private final LikesService likesService;
     private final PinService pinService;
+    private final UserPrincipalCache principalCache;
     private final Rq rq;
 
     @Transactional
@@ -46,6 +47,7 @@ public class UserService {
 
             user.setApiKey(key);
             userRepository.save(user);
+            principalCache.invalidate(user.getId(), key);
         }
         return user.getApiKey();
     }
@@ -144,8 +146,10 @@ public class UserService {
         User managed = userRepository.findById(user.getId())
                 .orElseThrow(() -> new ServiceException(ErrorCode.USER_NOT_FOUND));
         managed.setDeleted(true);
-        pinService.updateDeleteByUser(managed.getId());
+        // 좋아요 정리가 먼저 (좋아요 수 재계산 lock 을 핀 행 잠금보다 먼저 잡도록)
         likesService.deleteWithdrawnUserLikes(managed.getId());
+        pinService.updateDeleteByUser(managed.getId());
+        principalCache.invalidate(managed.getId(), managed.getApiKey());
     }
 
 
@@ -210,6 +214,7 @@ public class UserService {
         } else  {
             throw new ServiceException(ErrorCode.NO_FIELDS_TO_UPDATE);
         }
+        principalCache.invalidate(currentUser.getId(), currentUser.getApiKey());
     }
 
     @Transactional(readOnly = true)
@@ -228,11 +233,14 @@ public class UserService {
         return userRepository.findById(id);
     }
 
-    // 마이페이지를 위한 정보 조회
-    @Transactional(readOnly = true)
-    public List<Pin> getMyPins() {
-        User user = rq.getActor();
-        return pinService.findByUserId(user, user);
+    // 인증 필터의 access 토큰 사용자 확인용 조회 (principal 캐시를 거쳐 DB 조회 생략, 탈퇴 회원 제외)
+    public Optional<User> findPrincipalById(Long id) {
+        return principalCache.getById(id, key -> userRepository.findById(key).filter(user -> !user.isDeleted()));
+    }
+
+    // 인증 필터의 apiKey 인증용 사용자 조회 (principal 캐시를 거쳐 DB 조회 생략, 탈퇴 회원 제외)
+    public Optional<User> findPrincipalByApiKey(String apiKey) {
+        return principalCache.getByApiKey(apiKey, key -> userRepository.findByApiKey(key).filter(user -> !user.isDeleted()));
     }
 
     @Transactional(readOnly = true)
@@ -241,14 +249,6 @@ public class UserService {
         return bookmarkService.getMyBookmarks(user.getId());
     }
 
-    @Transactional
-    public int likesCount(List<Pin> listPin) {
-        int totalLikesReceived = listPin.stream()
-                .mapToInt(pin -> likesService.getLikesCount(pin.getId()))
-                .sum();
-        return totalLikesReceived;
-    }
-
     @Transactional(readOnly = true)
     public MyPinResponse listPublicAndPrivate() {
         User user = rq.getActor();
@@ -0,0 +1,29 @@
+package com.back.pinco.domain.user.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 인자에 --rebuild-user-stats 가 있으면 user_stats 를 원본 테이블 기준으로 재계산
+ * 예) java -jar pinco.jar --rebuild-user-stats
+ */
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class UserStatsRebuildRunner implements ApplicationRunner {
+
+    public static final String REBUILD_OPTION = "rebuild-user-stats";
+
+    private final UserStatsService userStatsService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(REBUILD_OPTION)) {
+            userStatsService.rebuildAll();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.back.pinco.domain.user.service;
+
+import com.back.pinco.domain.user.entity.UserStats;
+import com.back.pinco.domain.user.repository.UserStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+/**
+ * 사용자별 집계 값 관리
+ * - 증감 메서드는 호출한 쓰기 트랜잭션에 참여 (원본 변경과 함께 커밋/롤백)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserStatsService {
+
+    private final UserStatsRepository userStatsRepository;
+
+    // 집계 행이 없으면 모두 0 으로 간주
+    @Transactional(readOnly = true)
+    public UserStats getStats(Long userId) {
+        return userStatsRepository.findById(userId)
+                .orElseGet(() -> new UserStats(userId));
+    }
+
+    @Transactional
+    public void addPinCount(Long userId, long pinDelta, long likesDelta) {
+        userStatsRepository.addDeltas(userId, pinDelta, 0, likesDelta);
+    }
+
+    @Transactional
+    public void addBookmarkCount(Long userId, long delta) {
+        userStatsRepository.addDeltas(userId, 0, delta, 0);
+    }
+
+    @Transactional
+    public void addLikesReceived(Long pinId, long delta) {
+        userStatsRepository.addLikesReceived(new Long[]{pinId}, new Long[]{delta});
+    }
+
+    // key: 핀 ID, value: 좋아요 증감
+    @Transactional
+    public void addLikesReceived(Map<Long, Long> deltasByPinId) {
+        if (deltasByPinId.isEmpty()) return;
+
+        Long[] pinIds = deltasByPinId.keySet().toArray(Long[]::new);
+        Long[] deltas = new Long[pinIds.length];
+        for (int i = 0; i < pinIds.length; i++) {
+            deltas[i] = deltasByPinId.get(pinIds[i]);
+        }
+        userStatsRepository.addLikesReceived(pinIds, deltas);
+    }
+
+    @Transactional
+    public void resetPinStats(Long userId) {
+        userStatsRepository.resetPinStats(userId);
+    }
+
+    @Transactional
+    public int rebuildAll() {
+        int rebuilt = userStatsRepository.rebuildAll();
+        log.info("사용자 집계 재계산 완료. users={}", rebuilt);
+        return rebuilt;
+    }
+}
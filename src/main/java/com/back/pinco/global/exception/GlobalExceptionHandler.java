@@ -1,12 +1,14 @@
 package com.back.pinco.global.exception;
 
 import com.back.pinco.global.rsData.RsData;
+import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -48,6 +50,18 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    // @RequestParam / @PathVariable 범위 검증 실패 (@Validated 컨트롤러는 ConstraintViolationException, MVC 기본 검증은 HandlerMethodValidationException)
+    @ExceptionHandler({ConstraintViolationException.class, HandlerMethodValidationException.class})
+    public ResponseEntity<RsData<Void>> handleParameterValidationException(Exception e) {
+        ErrorCode errorCode = ErrorCode.INVALID_VALUE;
+        return ResponseEntity
+                .status(errorCode.getStatus())
+                .body(new RsData<>(
+                        String.valueOf(errorCode.getCode()),
+                        errorCode.getMessage()
+                ));
+    }
+
     //TODO : 다른 검증 값 오류도 정의하면 좋을듯
 
 }
\ No newline at end of file
@@ -0,0 +1,219 @@
+package com.back.pinco.global.geometry;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 표준 Geohash (base32) 인코딩 유틸
+ * - PostGIS ST_GeoHash 와 같은 값을 만든다
+ */
+public class GeohashUtil {
+
+    private static final String BASE32_INDEX = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+    private static final char[] BASE32 = BASE32_INDEX.toCharArray();
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    private GeohashUtil() {
+    }
+
+    /**
+     * @param latitude  위도
+     * @param longitude 경도
+     * @param precision geohash 길이 (1~12)
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        long key = encodeKey(latitude, longitude, precision);
+
+        char[] hash = new char[precision];
+        for (int i = precision - 1; i >= 0; i--) {
+            hash[i] = BASE32[(int) (key & 31)];
+            key >>>= 5;
+        }
+        return new String(hash);
+    }
+
+    /**
+     * geohash 를 문자열 대신 비트(문자당 5비트)로 담은 값 (precision 은 1~12)
+     * - 같은 precision 끼리는 값 순서가 geohash 문자열 순서와 같음 (Z-order 공간 채움 곡선)
+     * - 앞 p 자리 셀에 속한 값은 [keyOf(cell) << 5 * (precision - p), (keyOf(cell) + 1) << 5 * (precision - p)) 범위
+     */
+    public static long encodeKey(double latitude, double longitude, int precision) {
+        double latMin = -90, latMax = 90;
+        double lonMin = -180, lonMax = 180;
+
+        long key = 0;
+        boolean evenBit = true;   // 짝수 번째 비트는 경도
+        for (int bit = 0; bit < precision * 5; bit++) {
+            if (evenBit) {
+                double mid = (lonMin + lonMax) / 2;
+                if (longitude >= mid) {
+                    key = key * 2 + 1;
+                    lonMin = mid;
+                } else {
+                    key = key * 2;
+                    lonMax = mid;
+                }
+            } else {
+                double mid = (latMin + latMax) / 2;
+                if (latitude >= mid) {
+                    key = key * 2 + 1;
+                    latMin = mid;
+                } else {
+                    key = key * 2;
+                    latMax = mid;
+                }
+            }
+            evenBit = !evenBit;
+        }
+        return key;
+    }
+
+    /** geohash 문자열의 비트 값 (encodeKey 의 역) */
+    public static long keyOf(String geohash) {
+        long key = 0;
+        for (int i = 0; i < geohash.length(); i++) {
+            int index = BASE32_INDEX.indexOf(geohash.charAt(i));
+            if (index < 0) {
+                throw new IllegalArgumentException("geohash 문자가 아님: " + geohash);
+            }
+            key = (key << 5) | index;
+        }
+        return key;
+    }
+
+    /** 해당 precision 셀의 위도 방향 크기(도) */
+    public static double latitudeStep(int precision) {
+        return 180.0 / (1L << latitudeBits(precision));
+    }
+
+    /** 해당 precision 셀의 경도 방향 크기(도) */
+    public static double longitudeStep(int precision) {
+        return 360.0 / (1L << longitudeBits(precision));
+    }
+
+    private static int latitudeBits(int precision) {
+        return (precision * 5) / 2;
+    }
+
+    private static int longitudeBits(int precision) {
+        return (precision * 5 + 1) / 2;
+    }
+
+    // 위도가 속한 셀 행 번호 (위도 90 은 마지막 행, 2^latBits 로 넘치지 않게 고정)
+    private static long rowOf(double latitude, int precision) {
+        long row = (long) Math.floor((Math.max(Math.min(latitude, 90), -90) + 90) / latitudeStep(precision));
+        return Math.min(row, (1L << latitudeBits(precision)) - 1);
+    }
+
+    // 경도가 속한 셀 열 번호 (경도 180 은 마지막 열)
+    private static long colOf(double longitude, int precision) {
+        long col = (long) Math.floor((Math.max(Math.min(longitude, 180), -180) + 180) / longitudeStep(precision));
+        return Math.min(col, (1L << longitudeBits(precision)) - 1);
+    }
+
+    /** 사각 범위와 겹치는 모든 셀의 geohash */
+    public static List<String> coveringCells(double latMin, double lonMin, double latMax, double lonMax, int precision) {
+        double latStep = latitudeStep(precision);
+        double lonStep = longitudeStep(precision);
+
+        long rowMin = rowOf(latMin, precision);
+        long rowMax = rowOf(latMax, precision);
+        long colMin = colOf(lonMin, precision);
+        long colMax = colOf(lonMax, precision);
+
+        // 셀 번호를 고정해 두었으므로 중복은 없어야 하지만, 같은 셀을 두 번 조회하지 않도록 한 번 더 거름
+        Set<String> cells = new LinkedHashSet<>();
+        for (long row = rowMin; row <= rowMax; row++) {
+            // 셀 중심 좌표로 인코딩해 경계값 오차를 피함
+            double lat = -90 + (row + 0.5) * latStep;
+            for (long col = colMin; col <= colMax; col++) {
+                double lon = -180 + (col + 0.5) * lonStep;
+                cells.add(encode(lat, lon, precision));
+            }
+        }
+        return new ArrayList<>(cells);
+    }
+
+    /** 사각 범위와 겹치는 셀의 개수 */
+    public static long coveringCellCount(double latMin, double lonMin, double latMax, double lonMax, int precision) {
+        long rows = rowOf(latMax, precision) - rowOf(latMin, precision) + 1;
+        long cols = colOf(lonMax, precision) - colOf(lonMin, precision) + 1;
+        return rows * cols;
+    }
+
+    /** 사각 범위를 maxCells 개 이하의 셀로 덮을 수 있는 가장 긴 precision (1 ~ maxPrecision) */
+    public static int coveringPrecision(double latMin, double lonMin, double latMax, double lonMax, int maxPrecision, int maxCells) {
+        int precision = maxPrecision;
+        while (precision > 1 && coveringCellCount(latMin, lonMin, latMax, lonMax, precision) > maxCells) {
+            precision--;
+        }
+        return precision;
+    }
+
+    /** 중심 좌표와 반경(m)을 maxCells 개 이하의 셀로 덮을 수 있는 가장 긴 precision (1 ~ maxPrecision) */
+    public static int coveringPrecision(double latitude, double longitude, double radiusInMeters, int maxPrecision, int maxCells) {
+        int precision = maxPrecision;
+        while (precision > 1 && coveringCellCount(latitude, longitude, radiusInMeters, precision) > maxCells) {
+            precision--;
+        }
+        return precision;
+    }
+
+    /** 중심 좌표와 반경(m)을 덮는 셀의 geohash */
+    public static List<String> coveringCells(double latitude, double longitude, double radiusInMeters, int precision) {
+        double latDelta = latitudeDelta(radiusInMeters);
+        double lonDelta = longitudeDelta(latitude, latDelta);
+
+        return coveringCells(
+                latitude - latDelta, longitude - lonDelta,
+                latitude + latDelta, longitude + lonDelta,
+                precision
+        );
+    }
+
+    /** 중심 좌표와 반경(m)을 덮는 셀의 개수 */
+    public static long coveringCellCount(double latitude, double longitude, double radiusInMeters, int precision) {
+        double latDelta = latitudeDelta(radiusInMeters);
+        double lonDelta = longitudeDelta(latitude, latDelta);
+
+        return coveringCellCount(
+                latitude - latDelta, longitude - lonDelta,
+                latitude + latDelta, longitude + lonDelta,
+                precision
+        );
+    }
+
+    /**
+     * 중심 좌표와 반경(m)을 덮는 사각 범위가 날짜 변경선(경도 ±180)이나 극(위도 ±90)을 넘는지
+     * - 넘으면 범위가 반대편으로 이어지는데 위의 사각 범위는 경계에서 잘리므로 셀로 덮을 수 없음
+     */
+    public static boolean wrapsAround(double latitude, double longitude, double radiusInMeters) {
+        double latDelta = latitudeDelta(radiusInMeters);
+        double lonDelta = longitudeDelta(latitude, latDelta);
+        return latitude - latDelta < -90 || latitude + latDelta > 90
+                || longitude - lonDelta < -180 || longitude + lonDelta > 180;
+    }
+
+    private static double latitudeDelta(double radiusInMeters) {
+        return Math.toDegrees(radiusInMeters / EARTH_RADIUS_METERS);
+    }
+
+    private static double longitudeDelta(double latitude, double latDelta) {
+        double cosLat = Math.max(Math.cos(Math.toRadians(latitude)), 1e-6);
+        return Math.min(latDelta / cosLat, 180);
+    }
+
+    /** 두 좌표 사이의 대원 거리(m, haversine) */
+    public static double distanceInMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
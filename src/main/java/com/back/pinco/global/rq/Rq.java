@@ -1,6 +1,8 @@
 package com.back.pinco.global.rq;
 
 import com.back.pinco.domain.user.entity.User;
+import com.back.pinco.global.security.AuthenticatedActor;
+import jakarta.persistence.EntityManager;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -17,12 +19,26 @@ import java.util.Optional;
 public class Rq {
     private final HttpServletRequest request;
     private final HttpServletResponse response;
+    private final EntityManager entityManager;
 
-    public User getActor() {
+    // 토큰 클레임으로 만든 인증 사용자 (DB 조회 없음)
+    public AuthenticatedActor getAuthenticatedActor() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || !auth.isAuthenticated()) return null;
         Object principal = auth.getPrincipal();
-        return (principal instanceof User u) ? u : null;
+        return (principal instanceof AuthenticatedActor actor) ? actor : null;
+    }
+
+    /**
+     * 인증 사용자 엔티티 (지연 로딩 참조)
+     * - getId() 나 연관관계 설정만 하면 SELECT 없음, 다른 필드를 읽는 순간 한 번 로딩
+     * - 요청 범위 EntityManager(OSIV) 안에서 사용
+     * - 탈퇴한 사용자의 토큰은 인증 필터에서 401 로 거부되므로 참조 대상은 항상 존재
+     */
+    public User getActor() {
+        AuthenticatedActor actor = getAuthenticatedActor();
+        if (actor == null) return null;
+        return entityManager.getReference(User.class, actor.id());
     }
 
     public String getHeader(String name, String defaultValue) {
@@ -0,0 +1,26 @@
+package com.back.pinco.global.security;
+
+import com.back.pinco.domain.user.entity.User;
+
+/**
+ * SecurityContext 에 담는 인증 사용자 (검증된 access 토큰 클레임만으로 생성, DB 조회 없음)
+ * - User 엔티티가 필요하면 Rq.getActor() 가 지연 로딩 참조를 돌려준다
+ * @param id 사용자 ID
+ * @param email 이메일 (토큰 발급 시점 값)
+ * @param userName 사용자명 (토큰 발급 시점 값)
+ * @param role 권한
+ */
+public record AuthenticatedActor(
+        long id,
+        String email,
+        String userName,
+        String role
+) {
+    public static AuthenticatedActor from(JwtClaims claims) {
+        return new AuthenticatedActor(claims.id(), claims.email(), claims.userName(), claims.role());
+    }
+
+    public static AuthenticatedActor from(User user) {
+        return new AuthenticatedActor(user.getId(), user.getEmail(), user.getUserName(), "ROLE_USER");
+    }
+}
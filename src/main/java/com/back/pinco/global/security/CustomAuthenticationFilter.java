@@ -3,7 +3,6 @@ package com.back.pinco.global.security;
 import com.back.pinco.domain.user.entity.User;
 import com.back.pinco.domain.user.service.UserService;
 import com.back.pinco.global.exception.ErrorCode;
-import com.back.pinco.global.exception.ServiceException;
 import com.back.pinco.global.rq.Rq;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -18,7 +17,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 @Component
@@ -48,11 +46,9 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        // /api/pins 와 /api/pins/** GET은 공개
-        if ("GET".equalsIgnoreCase(method) && (uri.equals("/api/pins") || uri.startsWith("/api/pins/"))) {
-            chain.doFilter(req, res);
-            return;
-        }
+        // /api/pins 와 /api/pins/** GET은 공개 (인증 정보가 있으면 인증해 본인 비공개 핀까지, 인증 실패 시 익명으로 처리)
+        final boolean publicGet = "GET".equalsIgnoreCase(method)
+                && (uri.equals("/api/pins") || uri.startsWith("/api/pins/"));
 
         // /api/* 가 아니거나 공개 경로면 통과
         if (!uri.startsWith("/api/") || PERMIT_PATHS.stream().anyMatch(uri::equals)) {
@@ -67,7 +63,7 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
         String authHeader = rq.getHeader("Authorization", "");
         if (!authHeader.isBlank()) {
             if (!authHeader.startsWith("Bearer ")) {
-                write401(res, ErrorCode.INVALID_ACCESS_TOKEN);
+                reject(req, res, chain, publicGet, ErrorCode.INVALID_ACCESS_TOKEN);
                 return;
             }
             String[] bits = authHeader.split(" ", 3); // Bearer, apiKey, access
@@ -89,40 +85,44 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        // access 토큰 검사 → 유저
-        User user = null;
+        // access 토큰 검사 → 클레임으로 인증 (refresh 토큰은 access 로 인정하지 않음)
+        // 탈퇴한 사용자의 토큰은 거부 (principal 캐시로 확인하므로 캐시 적중 시 DB 조회 없음)
+        AuthenticatedActor actor = null;
         boolean accessValid = false;
 
-        if (hasAccess && tokenProvider.isValid(accessToken)) {
-            Map<String, Object> payload = tokenProvider.payloadOrNull(accessToken);
-            if (payload != null && payload.get("id") instanceof Number) {
-                long id = ((Number) payload.get("id")).longValue();
-                Optional<User> u = userService.findByIdOptional(id);
-                if (u.isPresent()) {
-                    user = u.get();
-                    accessValid = true;
+        if (hasAccess) {
+            Optional<JwtClaims> claims = tokenProvider.verify(accessToken)
+                    .filter(JwtClaims::isAccessToken);
+            if (claims.isPresent()) {
+                if (userService.findPrincipalById(claims.get().id()).isEmpty()) {
+                    reject(req, res, chain, publicGet, ErrorCode.INVALID_ACCESS_TOKEN);
+                    return;
                 }
+                actor = AuthenticatedActor.from(claims.get());
+                accessValid = true;
             }
         }
 
         // 토큰이 없거나 무효면 apiKey로 대체 인증
-        if (user == null && hasApiKey) {
-            try {
-                user = userService.findByApiKey(apiKey);
-            } catch (ServiceException e) {
-                write401(res, ErrorCode.INVALID_API_KEY);
+        User user = null;
+        if (actor == null && hasApiKey) {
+            Optional<User> u = userService.findPrincipalByApiKey(apiKey);
+            if (u.isEmpty()) {
+                reject(req, res, chain, publicGet, ErrorCode.INVALID_API_KEY);
                 return;
             }
+            user = u.get();
+            actor = AuthenticatedActor.from(user);
         }
 
         // 결국 유저를 못 찾으면 401
-        if (user == null) {
-            write401(res, ErrorCode.INVALID_ACCESS_TOKEN);
+        if (actor == null) {
+            reject(req, res, chain, publicGet, ErrorCode.INVALID_ACCESS_TOKEN);
             return;
         }
 
         // 토큰이 있었는데 무효였다면, apiKey가 유효한 경우 새 access 토큰 재발급
-        if (hasAccess && !accessValid && hasApiKey) {
+        if (hasAccess && !accessValid && user != null) {
             String newAccess = userService.genAccessToken(user);
             rq.setCookie("accessToken", newAccess);
             rq.setHeader("accessToken", newAccess);
@@ -130,13 +130,23 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
 
         // SecurityContext 주입
         var auth = new UsernamePasswordAuthenticationToken(
-                user, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))
+                actor, null, List.of(new SimpleGrantedAuthority(actor.role()))
         );
         SecurityContextHolder.getContext().setAuthentication(auth);
 
         chain.doFilter(req, res);
     }
 
+    // 공개 GET 은 익명으로 계속 진행, 그 외는 401
+    private void reject(HttpServletRequest req, HttpServletResponse res, FilterChain chain, boolean publicGet, ErrorCode ec)
+            throws ServletException, IOException {
+        if (publicGet) {
+            chain.doFilter(req, res);
+            return;
+        }
+        write401(res, ec);
+    }
+
     private void write401(HttpServletResponse res, ErrorCode ec) throws IOException {
         if (res.isCommitted()) return;
         res.setStatus(ec.getStatus().value());
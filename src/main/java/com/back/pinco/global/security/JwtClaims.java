@@ -0,0 +1,31 @@
+package com.back.pinco.global.security;
+
+/**
+ * 서명 검증이 끝난 토큰의 클레임
+ * @param id 사용자 ID (subject)
+ * @param email 이메일 (refresh 토큰은 null)
+ * @param userName 사용자명 (refresh 토큰은 null)
+ * @param role 권한
+ * @param expiresAtMillis 만료 시각 (epoch ms)
+ */
+public record JwtClaims(
+        long id,
+        String email,
+        String userName,
+        String role,
+        long expiresAtMillis
+) {
+    // 사용자 정보가 담긴 access 토큰인지 (refresh 토큰은 id 만 가짐)
+    public boolean isAccessToken() {
+        return email != null && userName != null;
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+
+    // 남은 유효 시간 (만료되었으면 0)
+    public long remainingValidityMillis(long nowMillis) {
+        return Math.max(0L, expiresAtMillis - nowMillis);
+    }
+}
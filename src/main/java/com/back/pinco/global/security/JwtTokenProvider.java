@@ -1,5 +1,7 @@
 package com.back.pinco.global.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -7,25 +9,39 @@ import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
 import java.util.Map;
+import java.util.Optional;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final Duration VERIFIED_CACHE_TTL = Duration.ofMinutes(5);
+
     private final Key key;                 // 서명/검증용 키(한 번 생성 후 재사용)
+    private final JwtParser parser;        // 검증용 파서(불변, 스레드 안전 → 한 번 생성 후 재사용)
     private final long accessExpMs;        // 액세스 토큰 만료(ms)
     private final long refreshExpMs;       // 리프레시 토큰 만료(ms)
+    private final Cache<String, JwtClaims> verified;    // 최근 검증한 토큰 → 클레임 (null 이면 캐시 안 함)
 
     public JwtTokenProvider(
             @Value("${custom.jwt.secret}") String secret,
             @Value("${custom.jwt.accessExpireSeconds}") long accessExpireSeconds,
-            @Value("${custom.jwt.refreshExpireSeconds}") long refreshExpireSeconds
+            @Value("${custom.jwt.refreshExpireSeconds}") long refreshExpireSeconds,
+            @Value("${custom.jwt.verified-cache-size:10000}") long verifiedCacheSize
     ) {
         // HS256은 32바이트 이상 권장
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
         this.accessExpMs = accessExpireSeconds * 1000L;
         this.refreshExpMs = refreshExpireSeconds * 1000L;
+        this.verified = verifiedCacheSize > 0
+                ? Caffeine.newBuilder()
+                    .maximumSize(verifiedCacheSize)
+                    .expireAfterWrite(VERIFIED_CACHE_TTL)
+                    .build()
+                : null;
     }
 
     // 토큰 발급
@@ -53,49 +69,74 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    // 토큰 검증, 파싱
-    public boolean isValid(String token) {
-        try {
-            parser().parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+    /**
+     * 토큰 검증 + 파싱을 한 번에 (서명 검증은 토큰당 한 번, 이후에는 캐시된 클레임 사용)
+     * @return 유효하면 클레임, 서명 오류/만료/형식 오류면 empty
+     */
+    public Optional<JwtClaims> verify(String token) {
+        if (token == null || token.isBlank()) return Optional.empty();
+
+        long now = System.currentTimeMillis();
+        if (verified != null) {
+            JwtClaims cached = verified.getIfPresent(token);
+            if (cached != null) {
+                if (!cached.isExpired(now)) return Optional.of(cached);
+                verified.invalidate(token);
+                return Optional.empty();
+            }
         }
-    }
 
-    public Long getUserId(String token) {
-        return Long.valueOf(parser().parseClaimsJws(token).getBody().getSubject());
+        JwtClaims claims = parse(token);
+        if (claims == null) return Optional.empty();
+
+        if (verified != null) verified.put(token, claims);
+        return Optional.of(claims);
     }
 
-    public Map<String, Object> payloadOrNull(String token) {
+    private JwtClaims parse(String token) {
         try {
-            Claims c = parser().parseClaimsJws(token).getBody();
-            return Map.of(
-                    "id", Long.valueOf(c.getSubject()),
-                    "email", c.get("email", String.class),
-                    "userName", c.get("userName", String.class),
-                    "role", c.getOrDefault("role", "ROLE_USER")
+            Claims c = parser.parseClaimsJws(token).getBody();
+            Date exp = c.getExpiration();
+            return new JwtClaims(
+                    Long.parseLong(c.getSubject()),
+                    c.get("email", String.class),
+                    c.get("userName", String.class),
+                    String.valueOf(c.getOrDefault("role", "ROLE_USER")),
+                    exp == null ? Long.MAX_VALUE : exp.getTime()
             );
-        } catch (Exception e) {
+        } catch (JwtException | IllegalArgumentException e) {
             return null;
         }
     }
 
-    private JwtParser parser() {
-        return Jwts.parserBuilder().setSigningKey(key).build();
+    // 토큰 검증, 파싱
+    public boolean isValid(String token) {
+        return verify(token).isPresent();
+    }
+
+    public Long getUserId(String token) {
+        return verify(token)
+                .map(JwtClaims::id)
+                .orElseThrow(() -> new JwtException("유효하지 않은 토큰입니다."));
+    }
+
+    // access 토큰의 클레임 (refresh 토큰처럼 사용자 정보가 없으면 null)
+    public Map<String, Object> payloadOrNull(String token) {
+        return verify(token)
+                .filter(JwtClaims::isAccessToken)
+                .map(claims -> Map.<String, Object>of(
+                        "id", claims.id(),
+                        "email", claims.email(),
+                        "userName", claims.userName(),
+                        "role", claims.role()
+                ))
+                .orElse(null);
     }
 
     // 남은 토큰 유효 시간
     public long getRemainingValidityMillis(String token) {
-        try {
-            Date exp = parser().parseClaimsJws(token).getBody().getExpiration();
-            long now = System.currentTimeMillis();
-            return (exp == null || exp.getTime() <= now) ? 0L : (exp.getTime() - now);
-        } catch (Exception e) {
-            return 0L;
-        }
+        return verify(token)
+                .map(claims -> claims.remainingValidityMillis(System.currentTimeMillis()))
+                .orElse(0L);
     }
 }
-
-
-
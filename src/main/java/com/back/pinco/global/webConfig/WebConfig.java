@@ -15,6 +15,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
                     registry.addMapping("/**")
                             .allowedOrigins("http://localhost:3000")
                             .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH")
+                            .exposedHeaders("X-Result-Truncated")    // 목록 조회 잘림 여부 (PinController.TRUNCATED_HEADER)
                             .allowCredentials(true);
                 }
             };
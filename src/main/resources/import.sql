@@ -0,0 +1,9 @@
+-- Hibernate(ddl-auto: create) 스키마 생성 직후 실행되는 스크립트 (한 줄에 한 문장)
+-- @Index 는 B-tree 로 생성되어 ST_DWithin, &&, <-> 가 사용할 수 없으므로 공간 인덱스는 여기서 GiST 로 직접 생성
+CREATE INDEX IF NOT EXISTS idx_pin_point ON pins USING GIST (point);
+-- 삭제되지 않은 핀 (로그인 사용자 조회)
+CREATE INDEX IF NOT EXISTS idx_pin_point_live ON pins USING GIST (point) WHERE is_deleted = false;
+-- 삭제되지 않은 공개 핀 (비로그인 조회)
+CREATE INDEX IF NOT EXISTS idx_pin_point_live_public ON pins USING GIST (point) WHERE is_deleted = false AND is_public = true;
+-- 삭제되지 않은 핀의 geohash 셀 (접두사 범위 조회, 셀별 개수)
+CREATE INDEX IF NOT EXISTS idx_pin_cell_live ON pins (cell) WHERE is_deleted = false;
@@ -3,15 +3,21 @@ package com.back.pinco.domain.pin.controller;
 import com.back.pinco.domain.likes.entity.Likes;
 import com.back.pinco.domain.likes.repository.LikesRepository;
 import com.back.pinco.domain.likes.service.LikesService;
+import com.back.pinco.domain.pin.dto.CreatePinRequest;
+import com.back.pinco.domain.pin.dto.UpdatePinContentRequest;
 import com.back.pinco.domain.pin.entity.Pin;
 import com.back.pinco.domain.pin.repository.PinRepository;
 import com.back.pinco.domain.pin.service.PinService;
+import com.back.pinco.domain.pin.service.PopularPinRanking;
 import com.back.pinco.domain.user.entity.User;
 import com.back.pinco.domain.user.repository.UserRepository;
 import com.back.pinco.domain.user.service.UserService;
 import com.back.pinco.global.exception.ErrorCode;
 import com.back.pinco.global.exception.ServiceException;
+import com.back.pinco.global.geometry.GeometryUtil;
 import com.back.pinco.global.security.JwtTokenProvider;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,12 +29,17 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -61,6 +72,12 @@ public class PinControllerTest {
     @Autowired
     private LikesService likesService;
 
+    @Autowired
+    private PopularPinRanking popularPinRanking;
+
+    @Autowired
+    private EntityManager entityManager;
+
 
     long targetId = 1L;
     long failedTargetId = Integer.MAX_VALUE;
@@ -423,6 +440,169 @@ public class PinControllerTest {
                 .andExpect(jsonPath("$.data").isEmpty());
     }
 
+    @Test
+    @DisplayName("기준 좌표에서 가까운 핀 조회 - 거리 오름차순")
+    void t3_2_1() throws Exception {
+        Pin pin = pinRepository.findAllPublicPins().get(0);
+        double lat = pin.getPoint().getY();
+        double lon = pin.getPoint().getX();
+        int limit = 5;
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/pins/nearest")
+                                .param("latitude", String.valueOf(lat))
+                                .param("longitude", String.valueOf(lon))
+                                .param("limit", String.valueOf(limit))
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(PinController.class))
+                .andExpect(handler().methodName("getNearestPins"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(lessThanOrEqualTo(limit)))
+                .andExpect(jsonPath("$.data[0].distance").value(lessThanOrEqualTo(1.0)));
+
+        List<Double> distances = JsonPath.read(
+                resultActions.andReturn().getResponse().getContentAsString(), "$.data[*].distance");
+        assertThat(distances).isSorted();
+    }
+
+    @Test
+    @DisplayName("반경 커서 페이지 조회 - 실패 (반경 상한 초과)")
+    void t3_1_3() throws Exception {
+        mvc
+                .perform(
+                        get("/api/pins/page")
+                                .param("latitude", "37.5665")
+                                .param("longitude", "126.9780")
+                                .param("radius", "100000")
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("400"));
+    }
+
+    @Test
+    @DisplayName("반경 조회 - 재검증 가능한 Cache-Control (보안 필터 기본값 no-store 대신 no-cache)")
+    void t3_1_4() throws Exception {
+        String etag = mvc
+                .perform(
+                        get("/api/pins")
+                                .param("latitude", "37.5665")
+                                .param("longitude", "126.9780")
+                                .param("radius", "1000")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andExpect(header().doesNotExist("Pragma"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mvc
+                .perform(
+                        get("/api/pins")
+                                .param("latitude", "37.5665")
+                                .param("longitude", "126.9780")
+                                .param("radius", "1000")
+                                .header("If-None-Match", etag)
+                )
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("Cache-Control", "no-cache, private"));
+    }
+
+    @Test
+    @DisplayName("기준 좌표에서 가까운 핀 조회 - 반경 밖의 핀은 제외, 상한 초과는 실패")
+    void t3_2_1_1() throws Exception {
+        Pin pin = pinRepository.findAllPublicPins().get(0);
+        String lat = String.valueOf(pin.getPoint().getY() + 1.0);    // 가장 가까운 핀도 100km 이상 떨어진 지점
+        String lon = String.valueOf(pin.getPoint().getX());
+
+        mvc
+                .perform(
+                        get("/api/pins/nearest")
+                                .param("latitude", lat)
+                                .param("longitude", lon)
+                                .param("radius", "1000")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(0));
+
+        mvc
+                .perform(
+                        get("/api/pins/nearest")
+                                .param("latitude", lat)
+                                .param("longitude", lon)
+                                .param("radius", "100000")
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("400"));
+    }
+
+    @Test
+    @DisplayName("반경 내 인기 핀 조회 - 좋아요 많은 순")
+    void t3_2_2() throws Exception {
+        Pin pin = pinRepository.findAllPublicPins().get(0);
+        double lat = pin.getPoint().getY();
+        double lon = pin.getPoint().getX();
+        int k = 3;
+
+        pinRepository.addLikeCountDeltas(new Long[]{pin.getId()}, new Long[]{1000L});
+        popularPinRanking.refresh();
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/pins/popular")
+                                .param("latitude", String.valueOf(lat))
+                                .param("longitude", String.valueOf(lon))
+                                .param("radius", "1000")
+                                .param("k", String.valueOf(k))
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(PinController.class))
+                .andExpect(handler().methodName("getPopularPins"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(lessThanOrEqualTo(k)))
+                .andExpect(jsonPath("$.data[0].id").value(pin.getId()));
+
+        List<Integer> likeCounts = JsonPath.read(
+                resultActions.andReturn().getResponse().getContentAsString(), "$.data[*].likeCount");
+        assertThat(likeCounts).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    @DisplayName("특정 범위(사각형) 내 좌표 확인 - 태그 필터")
+    void t3_3_3() throws Exception {
+        List<String> tags = List.of("카페", "감성");
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/pins/screen")
+                                .param("latMax", "90")
+                                .param("latMin", "-90")
+                                .param("lonMax", "180")
+                                .param("lonMin", "-180")
+                                .param("tags", tags.toArray(String[]::new))
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(PinController.class))
+                .andExpect(handler().methodName("getRectanglePins"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").isNotEmpty());
+
+        List<List<String>> pinTags = JsonPath.read(
+                resultActions.andReturn().getResponse().getContentAsString(), "$.data[*].pinTags");
+        assertThat(pinTags).allSatisfy(keywords -> assertThat(keywords).containsAll(tags));
+    }
+
     @Test
     @DisplayName("특정 범위(사각형) 내 좌표 확인 - 로그인 - 사각형")
     void t3_3_1() throws Exception {
@@ -524,6 +704,149 @@ public class PinControllerTest {
 
     }
 
+    @Test
+    @DisplayName("사각형 범위 재조회 - 결과가 같으면 304, 핀이 바뀌면 200")
+    void t3_3_4() throws Exception {
+
+        Pin pin = pinService.findByUserId(testUser, testUser).get(0);
+        double delta = 0.01;
+        String latMax = String.valueOf(pin.getPoint().getY() + delta);
+        String latMin = String.valueOf(pin.getPoint().getY() - delta);
+        String lonMax = String.valueOf(pin.getPoint().getX() + delta);
+        String lonMin = String.valueOf(pin.getPoint().getX() - delta);
+        String authorization = "Bearer %s %s".formatted(testUser.getApiKey(), jwtToken);
+
+        String etag = mvc
+                .perform(
+                        get("/api/pins/screen")
+                                .param("latMax", latMax)
+                                .param("latMin", latMin)
+                                .param("lonMax", lonMax)
+                                .param("lonMin", lonMin)
+                                .header("Authorization", authorization)
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mvc
+                .perform(
+                        get("/api/pins/screen")
+                                .param("latMax", latMax)
+                                .param("latMin", latMin)
+                                .param("lonMax", lonMax)
+                                .param("lonMin", lonMin)
+                                .header("Authorization", authorization)
+                                .header("If-None-Match", etag)
+                )
+                .andDo(print())
+                .andExpect(handler().methodName("getRectanglePins"))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        pinService.update(testUser, pin.getId(), new UpdatePinContentRequest("수정된 내용"));
+        entityManager.flush();
+
+        mvc
+                .perform(
+                        get("/api/pins/screen")
+                                .param("latMax", latMax)
+                                .param("latMin", latMin)
+                                .param("lonMax", lonMax)
+                                .param("lonMin", lonMin)
+                                .header("Authorization", authorization)
+                                .header("If-None-Match", etag)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)));
+    }
+
+    @Test
+    @DisplayName("사각형 범위 재조회 - 한 핀 좋아요 + 다른 핀 좋아요 취소 (합계가 같아도 200)")
+    void t3_3_5() throws Exception {
+        Pin first = pinService.write(testUser, new CreatePinRequest(10.0, 10.0, "좋아요 취소될 핀"));
+        Pin second = pinService.write(testUser, new CreatePinRequest(10.001, 10.001, "좋아요 받을 핀"));
+        entityManager.flush();
+        String authorization = "Bearer %s %s".formatted(testUser.getApiKey(), jwtToken);
+
+        mvc
+                .perform(
+                        post("/api/pins/likes")
+                                .header("Authorization", authorization)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"operations\": [{\"pinId\": %d, \"liked\": true}]}".formatted(first.getId()))
+                )
+                .andExpect(status().isOk());
+
+        String etag = mvc
+                .perform(
+                        get("/api/pins/screen")
+                                .param("latMax", "10.01")
+                                .param("latMin", "9.99")
+                                .param("lonMax", "10.01")
+                                .param("lonMin", "9.99")
+                                .header("Authorization", authorization)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // 한 요청에서 좋아요 합계는 그대로 두고 핀별 좋아요 수만 바꿈
+        mvc
+                .perform(
+                        post("/api/pins/likes")
+                                .header("Authorization", authorization)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {"operations": [
+                                            {"pinId": %d, "liked": false},
+                                            {"pinId": %d, "liked": true}
+                                        ]}
+                                        """.formatted(first.getId(), second.getId()))
+                )
+                .andExpect(status().isOk());
+
+        mvc
+                .perform(
+                        get("/api/pins/screen")
+                                .param("latMax", "10.01")
+                                .param("latMin", "9.99")
+                                .param("lonMax", "10.01")
+                                .param("lonMin", "9.99")
+                                .header("Authorization", authorization)
+                                .header("If-None-Match", etag)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)));
+    }
+
+    @Test
+    @DisplayName("사각형 범위 조회 - 최대 개수 초과 시 잘라내고 헤더로 알림")
+    void t3_3_6() throws Exception {
+        List<Pin> pins = new ArrayList<>();
+        for (int i = 0; i <= PinService.MAX_LIST_SIZE; i++) {
+            pins.add(new Pin(GeometryUtil.createPoint(20.0 + i * 0.00001, 20.0), testUser, "개수 제한 핀 " + i));
+        }
+        pinRepository.saveAll(pins);
+        entityManager.flush();
+
+        mvc
+                .perform(
+                        get("/api/pins/screen")
+                                .param("latMax", "20.01")
+                                .param("latMin", "19.99")
+                                .param("lonMax", "20.02")
+                                .param("lonMin", "19.99")
+                                .header("Authorization", "Bearer %s %s".formatted(testUser.getApiKey(), jwtToken))
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().string(PinController.TRUNCATED_HEADER, "true"))
+                .andExpect(jsonPath("$.data.length()").value(PinService.MAX_LIST_SIZE));
+    }
+
     @Test
     @DisplayName("특정 지점에서 범위 내 핀 확인 - 핀 없음 - 사각형")
     void t3_4() throws Exception {
@@ -558,6 +881,159 @@ public class PinControllerTest {
     }
 
 
+    @Test
+    @DisplayName("특정 범위(사각형) 내 핀 클러스터 확인 - 비로그인")
+    void t3_5() throws Exception {
+
+        Pin pin = pinRepository.findAll().get(0);
+        double centerLat = pin.getPoint().getY();
+        double centerLon = pin.getPoint().getX();
+
+        double delta = 0.05;
+        double latMax = centerLat + delta;
+        double latMin = centerLat - delta;
+        double lonMax = centerLon + delta;
+        double lonMin = centerLon - delta;
+
+        List<Pin> pins = pinRepository.findPublicScreenPins(latMax, lonMax, latMin, lonMin);
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/pins/screen/clusters")
+                                .param("latMax", String.valueOf(latMax))
+                                .param("latMin", String.valueOf(latMin))
+                                .param("lonMax", String.valueOf(lonMax))
+                                .param("lonMin", String.valueOf(lonMin))
+                                .param("zoom", "10")
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(PinController.class))
+                .andExpect(handler().methodName("getRectangleClusters"))
+                .andExpect(status().isOk());
+
+        // 셀별 개수의 합은 범위 내 전체 핀 개수와 같아야 함
+        List<Integer> counts = JsonPath.read(
+                resultActions.andReturn().getResponse().getContentAsString(), "$.data[*].count");
+        assertThat(counts.stream().mapToInt(Integer::intValue).sum()).isEqualTo(pins.size());
+        assertThat(counts.size()).isLessThanOrEqualTo(pins.size());
+    }
+
+    @Test
+    @DisplayName("셀별 개수 조회 - 사각형 범위")
+    void t3_5_1() throws Exception {
+
+        Pin pin = pinRepository.findAll().get(0);
+        double centerLat = pin.getPoint().getY();
+        double centerLon = pin.getPoint().getX();
+
+        double delta = 0.05;
+        double latMax = centerLat + delta;
+        double latMin = centerLat - delta;
+        double lonMax = centerLon + delta;
+        double lonMin = centerLon - delta;
+
+        List<Pin> pins = pinRepository.findPublicScreenPins(latMax, lonMax, latMin, lonMin);
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/pins/screen/cells")
+                                .param("latMax", String.valueOf(latMax))
+                                .param("latMin", String.valueOf(latMin))
+                                .param("lonMax", String.valueOf(lonMax))
+                                .param("lonMin", String.valueOf(lonMin))
+                                .param("precision", "6")
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(PinController.class))
+                .andExpect(handler().methodName("getRectangleCellCounts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].cell").value(matchesPattern("[0-9bcdefghjkmnpqrstuvwxyz]{6}")));
+
+        // 셀별 개수의 합은 범위 내 전체 핀 개수와 같아야 함
+        List<Integer> counts = JsonPath.read(
+                resultActions.andReturn().getResponse().getContentAsString(), "$.data[*].count");
+        assertThat(counts.stream().mapToInt(Integer::intValue).sum()).isEqualTo(pins.size());
+    }
+
+    @Test
+    @DisplayName("벡터 타일 조회 - 비로그인")
+    void t3_6_1() throws Exception {
+        Pin pin = pinRepository.findAll().get(0);
+        int z = 14;
+        double n = Math.pow(2, z);
+        double latRad = Math.toRadians(pin.getPoint().getY());
+        int x = (int) Math.floor((pin.getPoint().getX() + 180) / 360 * n);
+        int y = (int) Math.floor((1 - Math.log(Math.tan(latRad) + 1 / Math.cos(latRad)) / Math.PI) / 2 * n);
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/pins/tiles/%d/%d/%d.mvt".formatted(z, x, y))
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(PinController.class))
+                .andExpect(handler().methodName("getPinTile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/vnd.mapbox-vector-tile"))
+                .andExpect(header().string("Cache-Control", containsString("public")));
+
+        assertThat(resultActions.andReturn().getResponse().getContentAsByteArray()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("벡터 타일 조회 - 로그인 (공개 GET 에서도 인증, 사용자별 캐시)")
+    void t3_6_3() throws Exception {
+        Pin pin = pinService.findByUserId(testUser, testUser).get(0);
+        int z = 14;
+        double n = Math.pow(2, z);
+        double latRad = Math.toRadians(pin.getPoint().getY());
+        int x = (int) Math.floor((pin.getPoint().getX() + 180) / 360 * n);
+        int y = (int) Math.floor((1 - Math.log(Math.tan(latRad) + 1 / Math.cos(latRad)) / Math.PI) / 2 * n);
+
+        mvc
+                .perform(
+                        get("/api/pins/tiles/%d/%d/%d.mvt".formatted(z, x, y))
+                                .header("Authorization", "Bearer %s %s".formatted(testUser.getApiKey(), jwtToken))
+                )
+                .andDo(print())
+                .andExpect(handler().methodName("getPinTile"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("private")));
+    }
+
+    @Test
+    @DisplayName("벡터 타일 조회 - 실패 (줌 레벨 범위 초과)")
+    void t3_6_4() throws Exception {
+        mvc
+                .perform(
+                        get("/api/pins/tiles/%d/%d/%d.mvt".formatted(23, 0, 0))
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("400"));
+    }
+
+    @Test
+    @DisplayName("벡터 타일 조회 - 실패 (잘못된 타일 좌표)")
+    void t3_6_2() throws Exception {
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/pins/tiles/%d/%d/%d.mvt".formatted(2, 4, 0))
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(PinController.class))
+                .andExpect(handler().methodName("getPinTile"))
+                .andExpect(jsonPath("$.errorCode").value("1011"))
+                .andExpect(jsonPath("$.msg").exists());
+    }
+
     @Test
     @DisplayName("모든 핀 리턴")
     void t4_1_1() throws Exception {
@@ -611,6 +1087,60 @@ public class PinControllerTest {
         }
     }
 
+    @Test
+    @DisplayName("모든 핀 리턴 - 커서 페이지 - 비로그인")
+    void t4_1_3() throws Exception {
+        int size = 5;
+        List<Pin> pins = pinRepository.findAllPublicPinsAfter(0L, size + 1);
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/pins/all/page")
+                                .param("size", String.valueOf(size))
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(PinController.class))
+                .andExpect(handler().methodName("getAllPage"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.pins.length()").value(Math.min(size, pins.size())))
+                .andExpect(jsonPath("$.data.hasNext").value(pins.size() > size));
+
+        for (int i = 0; i < Math.min(size, pins.size()); i++) {
+            resultActions
+                    .andExpect(jsonPath("$.data.pins[%d].id".formatted(i)).value(pins.get(i).getId()));
+        }
+
+        if (pins.size() > size) {
+            long nextCursor = pins.get(size - 1).getId();
+            resultActions.andExpect(jsonPath("$.data.nextCursor").value(nextCursor));
+
+            // 다음 페이지는 커서 이후 핀부터 시작
+            mvc.perform(
+                            get("/api/pins/all/page")
+                                    .param("cursor", String.valueOf(nextCursor))
+                                    .param("size", String.valueOf(size))
+                    )
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.pins[0].id").value(pins.get(size).getId()));
+        }
+    }
+
+    @Test
+    @DisplayName("모든 핀 리턴 - 커서 페이지 - 최대 페이지 크기 제한")
+    void t4_1_4() throws Exception {
+        mvc.perform(
+                        get("/api/pins/all/page")
+                                .param("size", String.valueOf(Integer.MAX_VALUE))
+                )
+                .andDo(print())
+                .andExpect(handler().methodName("getAllPage"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.pins.length()").value(lessThanOrEqualTo(200)));
+    }
+
     @Test
     @DisplayName("특정 사용자 핀 리턴 -성공 ")
     void t4_2_1() throws Exception {
@@ -944,6 +1474,103 @@ public class PinControllerTest {
         assertThat(likes.getCreatedAt()).isNotNull();
     }
 
+    @Test
+    @DisplayName("좋아요 등록 후 취소 - 아직 반영되지 않은 변화량까지 포함한 개수")
+    @Transactional
+    void likesToggleCountReadYourWrites() throws Exception {
+        //given
+        Long pinId = 5L;
+        Long userId = 2L;
+        String requestBody = "{\"userId\": " + userId + "}";
+        User testUser = userService.findById(userId);
+
+        int likeCnt = likesService.getLikesCount(pinId);
+
+        // when & then
+        mvc.perform(
+                        post("/api/pins/{pinId}/likes", pinId)
+                                .header("Authorization", "Bearer %s %s".formatted(testUser.getApiKey(), jwtToken))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(requestBody)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.likeCount").value(likeCnt + 1));
+
+        mvc.perform(
+                        delete("/api/pins/{pinId}/likes", pinId)
+                                .header("Authorization", "Bearer %s %s".formatted(testUser.getApiKey(), jwtToken))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(requestBody)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.likeCount").value(likeCnt));
+    }
+
+    @Test
+    @DisplayName("좋아요 중복 등록 - 오류 없이 개수 유지")
+    @Transactional
+    void likesCreateTwiceIdempotent() throws Exception {
+        //given
+        Long pinId = 5L;
+        Long userId = 2L;
+        String requestBody = "{\"userId\": " + userId + "}";
+        User testUser = userService.findById(userId);
+
+        int likeCnt = likesService.getLikesCount(pinId);
+
+        // when & then
+        for (int i = 0; i < 2; i++) {
+            mvc.perform(
+                            post("/api/pins/{pinId}/likes", pinId)
+                                    .header("Authorization", "Bearer %s %s".formatted(testUser.getApiKey(), jwtToken))
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(requestBody)
+                    )
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.isLiked").value(true))
+                    .andExpect(jsonPath("$.data.likeCount").value(likeCnt + 1));
+        }
+
+        assertThat(likesRepository.countByPinId(pinId)).isEqualTo(likeCnt + 1);
+    }
+
+    @Test
+    @DisplayName("좋아요 일괄 처리 - 같은 핀은 마지막 작업만 반영, 없는 핀은 건너뜀")
+    void likesBatchApply() throws Exception {
+        //given
+        Long pinId = 1L;
+        Long missingPinId = 99999L;
+        boolean alreadyLiked = likesRepository.findByPinIdAndUserId(pinId, testUser.getId()).isPresent();
+        int likeCnt = likesService.getLikesCount(pinId);
+        String requestBody = """
+                {"operations": [
+                    {"pinId": %d, "liked": false},
+                    {"pinId": %d, "liked": true},
+                    {"pinId": %d, "liked": true}
+                ]}
+                """.formatted(pinId, missingPinId, pinId);
+
+        // when & then
+        mvc.perform(
+                        post("/api/pins/likes")
+                                .header("Authorization", "Bearer %s %s".formatted(testUser.getApiKey(), jwtToken))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(requestBody)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.results.length()").value(1))
+                .andExpect(jsonPath("$.data.results[0].pinId").value(pinId))
+                .andExpect(jsonPath("$.data.results[0].isLiked").value(true))
+                .andExpect(jsonPath("$.data.results[0].likeCount").value(alreadyLiked ? likeCnt : likeCnt + 1))
+                .andExpect(jsonPath("$.data.skippedPinIds[0]").value(missingPinId));
+
+        assertThat(likesRepository.findByPinIdAndUserId(pinId, testUser.getId())).isPresent();
+    }
+
     @Test
     @DisplayName("좋아요 저장 실패 - 존재하지 않는 핀")
     @Transactional
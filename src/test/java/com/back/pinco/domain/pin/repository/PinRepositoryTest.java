@@ -0,0 +1,205 @@
+package com.back.pinco.domain.pin.repository;
+
+import com.back.pinco.global.geometry.GeometryUtil;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 셀 캐시/메모리 인덱스를 끄고 매 요청이 DB 로 가도록 함 (캐시 적중 시 쿼리 수가 0 이 되어 검증이 무의미해짐)
+@SpringBootTest(properties = {"custom.pins.cell-cache.enabled=false", "custom.pins.memory-index.enabled=false"})
+@Import(PinRepositoryTest.StatementCountingConfig.class)
+@AutoConfigureMockMvc
+@Transactional
+public class PinRepositoryTest {
+    // 목록 조회는 버전(ETag) 조회 + 목록 조회 (태그는 목록 쿼리 안의 ARRAY 서브쿼리)
+    private static final long MAX_LIST_STATEMENTS = 2;
+
+    // Hibernate 통계는 NamedParameterJdbcTemplate 쿼리를 세지 못하므로 커넥션에서 만든 Statement 수를 직접 셈
+    private static final AtomicLong STATEMENTS = new AtomicLong();
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    // 실행 계획 검증용 핀 수 (샘플 데이터만으로는 테이블이 작아 플래너가 순차 스캔을 고름)
+    private static final int PLAN_PIN_COUNT = 20000;
+
+    private void fillPins() {
+        // 전국(위도 33~38, 경도 126~130)에 흩어진 핀을 넣고 통계를 갱신 (트랜잭션 종료 시 롤백)
+        jdbcTemplate.getJdbcTemplate().execute(
+                "INSERT INTO pins (pin_id, point, content, user_id, like_count, is_public, is_deleted, create_at, create_by, modified_by) " +
+                        "SELECT nextval('pin_seq'), ST_SetSRID(ST_MakePoint(126 + random() * 4, 33 + random() * 5), " + GeometryUtil.SRID + ")::geography, " +
+                        "'plan', (SELECT MIN(user_id) FROM users), 0, i % 4 <> 0, i % 10 = 0, now(), 0, 0 " +
+                        "FROM generate_series(1, " + PLAN_PIN_COUNT + ") i"
+        );
+        jdbcTemplate.getJdbcTemplate().execute("ANALYZE pins");
+    }
+
+    private String explain(String query, MapSqlParameterSource params) {
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + query, params, String.class);
+        return String.join("\n", plan);
+    }
+
+    @Test
+    @DisplayName("비로그인 사각형 조회는 공간 인덱스를 사용")
+    void t1() {
+        fillPins();
+        String plan = explain(
+                PinRepository.Rectangle_BASE_QUERY + " AND p.is_public = true",
+                new MapSqlParameterSource()
+                        .addValue("latMax", 37.60)
+                        .addValue("lonMax", 127.10)
+                        .addValue("latMin", 37.50)
+                        .addValue("lonMin", 126.90)
+        );
+
+        assertThat(plan).contains("idx_pin_point_live_public");
+        assertThat(plan).doesNotContain("Seq Scan on pins");
+    }
+
+    @Test
+    @DisplayName("비로그인 반경 조회는 공간 인덱스를 사용")
+    void t2() {
+        fillPins();
+        String plan = explain(
+                PinRepository.BASE_QUERY + "AND is_public = true",
+                new MapSqlParameterSource()
+                        .addValue("latitude", 37.5665)
+                        .addValue("longitude", 126.9780)
+                        .addValue("radiusInMeters", 1000.0)
+        );
+
+        assertThat(plan).contains("idx_pin_point_live_public");
+        assertThat(plan).doesNotContain("Seq Scan on pins");
+    }
+
+    // 요청 처리 중 JDBC 커넥션에서 준비된 SQL 문 수 (영속성 컨텍스트를 비워 캐시된 엔티티 영향 제거)
+    private long statementCount(MockHttpServletRequestBuilder request) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        STATEMENTS.set(0);
+
+        mvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").isNotEmpty());
+
+        return STATEMENTS.get();
+    }
+
+    // DataSource 를 감싸 커넥션에서 Statement 를 만들 때마다 STATEMENTS 를 증가 (JPA, JdbcTemplate 모두 이 커넥션을 사용)
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        private static final Set<String> STATEMENT_METHODS = Set.of("prepareStatement", "prepareCall", "createStatement");
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource) || bean instanceof DelegatingDataSource) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return counting(super.getConnection());
+                        }
+
+                        @Override
+                        public Connection getConnection(String username, String password) throws SQLException {
+                            return counting(super.getConnection(username, password));
+                        }
+                    };
+                }
+            };
+        }
+
+        private static Connection counting(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (STATEMENT_METHODS.contains(method.getName())) {
+                            STATEMENTS.incrementAndGet();
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    }
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("전체 핀 조회는 결과 수와 무관하게 고정된 수의 쿼리만 실행")
+    void t3() throws Exception {
+        assertThat(statementCount(get("/api/pins/all"))).isBetween(1L, MAX_LIST_STATEMENTS);
+    }
+
+    @Test
+    @DisplayName("사각형 범위 조회는 결과 수와 무관하게 고정된 수의 쿼리만 실행")
+    void t4() throws Exception {
+        long count = statementCount(
+                get("/api/pins/screen")
+                        .param("latMax", "90")
+                        .param("lonMax", "180")
+                        .param("latMin", "-90")
+                        .param("lonMin", "-180")
+        );
+        assertThat(count).isBetween(1L, MAX_LIST_STATEMENTS);
+    }
+
+    @Test
+    @DisplayName("반경 조회는 결과 수와 무관하게 고정된 수의 쿼리만 실행")
+    void t5() throws Exception {
+        long count = statementCount(
+                get("/api/pins")
+                        .param("latitude", "37.5665")
+                        .param("longitude", "126.9780")
+                        .param("radius", "100000")
+        );
+        assertThat(count).isBetween(1L, MAX_LIST_STATEMENTS);
+    }
+
+    @Test
+    @DisplayName("사용자 핀 조회는 결과 수와 무관하게 고정된 수의 쿼리만 실행")
+    void t6() throws Exception {
+        // 작성자 조회 1 + 핀 목록 + 태그 fetch join
+        assertThat(statementCount(get("/api/pins/user/1"))).isBetween(1L, MAX_LIST_STATEMENTS + 1);
+    }
+}
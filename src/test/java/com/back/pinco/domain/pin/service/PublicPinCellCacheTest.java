@@ -0,0 +1,117 @@
+package com.back.pinco.domain.pin.service;
+
+import com.back.pinco.domain.pin.dto.PinDto;
+import com.back.pinco.domain.pin.event.PinChangedEvent;
+import com.back.pinco.domain.pin.repository.PinQueryRepository;
+import com.back.pinco.domain.user.entity.User;
+import com.back.pinco.domain.user.repository.UserRepository;
+import com.back.pinco.global.geometry.GeohashUtil;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+public class PublicPinCellCacheTest {
+
+    @Autowired
+    private PublicPinCellCache publicPinCellCache;
+
+    @Autowired
+    private PinQueryRepository pinQueryRepository;
+
+    @Autowired
+    private PinService pinService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        publicPinCellCache.invalidateAll();
+    }
+
+    // 롤백될 데이터로 채운 셀이 다른 테스트에 남지 않도록 비움
+    @AfterEach
+    void tearDown() {
+        publicPinCellCache.invalidateAll();
+    }
+
+    private List<Long> ids(List<PinDto> pins) {
+        return pins.stream().map(PinDto::id).toList();
+    }
+
+    @Test
+    @DisplayName("셀 캐시 사각형 조회 결과가 DB 조회와 같음 (두 번째 조회는 캐시)")
+    void t1() {
+        List<Long> expected = ids(pinQueryRepository.findScreenPins(37.57, 126.98, 37.56, 126.97, null, null));
+
+        assertThat(publicPinCellCache.findInEnvelope(37.57, 126.98, 37.56, 126.97).map(this::ids)).contains(expected);
+        assertThat(publicPinCellCache.findInEnvelope(37.57, 126.98, 37.56, 126.97).map(this::ids)).contains(expected);
+    }
+
+    @Test
+    @DisplayName("셀 캐시 반경 조회 결과가 DB 조회와 같음")
+    void t2() {
+        assertThat(publicPinCellCache.findWithinRadius(37.5665, 126.9780, 1000).map(this::ids))
+                .contains(ids(pinQueryRepository.findPinsWithinRadius(37.5665, 126.9780, 1000, null, null)));
+    }
+
+    @Test
+    @DisplayName("셀이 너무 많은 범위는 캐시를 쓰지 않음")
+    void t3() {
+        assertThat(publicPinCellCache.findInEnvelope(90, 180, -90, -180)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("날짜 변경선이나 극을 넘는 반경은 캐시를 쓰지 않음 (DB 조회)")
+    void t3_1() {
+        assertThat(publicPinCellCache.findWithinRadius(0, 179.999, 1000)).isEmpty();
+        assertThat(publicPinCellCache.findWithinRadius(0, -179.999, 1000)).isEmpty();
+        assertThat(publicPinCellCache.findWithinRadius(89.999, 0, 1000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("범위 끝(위도 90, 경도 180)에 닿는 사각형도 셀이 중복되지 않음")
+    void t3_2() {
+        List<String> cells = GeohashUtil.coveringCells(89.99, 179.99, 90, 180, PublicPinCellCache.CELL_PRECISION);
+
+        assertThat(cells).doesNotHaveDuplicates();
+        assertThat((long) cells.size()).isEqualTo(GeohashUtil.coveringCellCount(89.99, 179.99, 90, 180, PublicPinCellCache.CELL_PRECISION));
+        assertThat(publicPinCellCache.findInEnvelope(90, 180, 89.99, 179.99)).isPresent();
+    }
+
+    @Test
+    @DisplayName("핀 변경 이벤트로 해당 핀의 셀만 다시 조회")
+    void t4() {
+        User user = userRepository.findById(1L).get();
+        PinDto pin = pinQueryRepository.findPinsByWriter(user.getId(), null).get(0);
+        double latMax = pin.latitude() + 0.001;
+        double lonMax = pin.longitude() + 0.001;
+        double latMin = pin.latitude() - 0.001;
+        double lonMin = pin.longitude() - 0.001;
+
+        assertThat(publicPinCellCache.findInEnvelope(latMax, lonMax, latMin, lonMin).map(this::ids).orElseThrow())
+                .contains(pin.id());
+
+        // 트랜잭션 안이라 커밋 이벤트가 오지 않으므로 직접 전달
+        pinService.changePublic(user, pin.id());
+        entityManager.flush();
+        publicPinCellCache.onPinChanged(PinChangedEvent.ofPin(pin.id()));
+
+        assertThat(publicPinCellCache.findInEnvelope(latMax, lonMax, latMin, lonMin).map(this::ids).orElseThrow())
+                .doesNotContain(pin.id());
+    }
+}
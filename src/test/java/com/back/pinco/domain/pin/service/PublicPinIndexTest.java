@@ -0,0 +1,90 @@
+package com.back.pinco.domain.pin.service;
+
+import com.back.pinco.domain.pin.dto.PinDto;
+import com.back.pinco.domain.pin.event.PinChangedEvent;
+import com.back.pinco.domain.pin.repository.PinQueryRepository;
+import com.back.pinco.domain.user.entity.User;
+import com.back.pinco.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 백그라운드 반영이 테스트 도중 큐를 비우지 않도록 주기를 길게 두고 applyPending 을 직접 호출
+@SpringBootTest(properties = {
+        "custom.pins.memory-index.enabled=true",
+        "custom.pins.memory-index.apply-interval-ms=3600000"
+})
+@Transactional
+public class PublicPinIndexTest {
+
+    @Autowired
+    private PublicPinIndex publicPinIndex;
+
+    @Autowired
+    private PinQueryRepository pinQueryRepository;
+
+    @Autowired
+    private PinService pinService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        publicPinIndex.reload();
+    }
+
+    private List<Long> ids(List<PinDto> pins) {
+        return pins.stream().map(PinDto::id).toList();
+    }
+
+    @Test
+    @DisplayName("메모리 사각형 조회 결과가 DB 조회와 같음")
+    void t1() {
+        assertThat(publicPinIndex.isReady()).isTrue();
+
+        assertThat(ids(publicPinIndex.findInEnvelope(37.57, 126.98, 37.56, 126.97)))
+                .isEqualTo(ids(pinQueryRepository.findScreenPins(37.57, 126.98, 37.56, 126.97, null, null)));
+        assertThat(ids(publicPinIndex.findInEnvelope(90, 180, -90, -180)))
+                .isEqualTo(ids(pinQueryRepository.findAllPins(null)));
+    }
+
+    @Test
+    @DisplayName("메모리 반경 조회 결과가 DB 조회와 같음")
+    void t2() {
+        assertThat(ids(publicPinIndex.findWithinRadius(37.5665, 126.9780, 1000)))
+                .isEqualTo(ids(pinQueryRepository.findPinsWithinRadius(37.5665, 126.9780, 1000, null, null)));
+    }
+
+    @Test
+    @DisplayName("핀 변경 이벤트로 해당 핀만 다시 반영")
+    void t3() {
+        User user = userRepository.findById(1L).get();
+        PinDto pin = publicPinIndex.findInEnvelope(90, 180, -90, -180).stream()
+                .filter(p -> p.userId().equals(user.getId()))
+                .findFirst()
+                .orElseThrow();
+
+        // 트랜잭션 안이라 커밋 이벤트가 오지 않으므로 직접 전달
+        pinService.changePublic(user, pin.id());
+        entityManager.flush();
+        publicPinIndex.onPinChanged(PinChangedEvent.ofPin(pin.id()));
+
+        // 이벤트는 큐에만 쌓이고 백그라운드 반영 전까지는 이전 저장소 그대로
+        assertThat(ids(publicPinIndex.findInEnvelope(90, 180, -90, -180))).contains(pin.id());
+
+        publicPinIndex.applyPending();
+        assertThat(ids(publicPinIndex.findInEnvelope(90, 180, -90, -180))).doesNotContain(pin.id());
+    }
+}
@@ -19,13 +19,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -71,6 +75,37 @@ class TagControllerTest {
                 .andExpect(jsonPath("$.data.tags", hasSize(2)));
     }
 
+    // t1-1: 전체 태그 조회 - 변경 없으면 304
+    @Test
+    @DisplayName("t1-1 - 태그 목록 재조회 (ETag / Last-Modified 일치 시 304)")
+    void t1_1() throws Exception {
+        tagRepository.save(new Tag("카페"));
+        tagRepository.save(new Tag("감성"));
+
+        MockHttpServletResponse response = mvc.perform(get("/api/tags"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andReturn().getResponse();
+        String etag = response.getHeader("ETag");
+        String lastModified = response.getHeader("Last-Modified");
+
+        mvc.perform(get("/api/tags").header("If-None-Match", etag))
+                .andDo(print())
+                .andExpect(status().isNotModified());
+
+        mvc.perform(get("/api/tags").header("If-Modified-Since", lastModified))
+                .andDo(print())
+                .andExpect(status().isNotModified());
+
+        // 태그가 추가되면 다시 200
+        tagRepository.save(new Tag("야경"));
+
+        mvc.perform(get("/api/tags").header("If-None-Match", etag))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.tags", hasSize(3)));
+    }
+
     // t2: 태그 생성 - 성공
     @Test
     @DisplayName("t2 - 태그 생성 성공")
@@ -414,4 +449,107 @@ class TagControllerTest {
                 .andExpect(jsonPath("$.errorCode").value("3001"))
                 .andExpect(jsonPath("$.msg").value("존재하지 않는 태그입니다."));
     }
+
+    // t20: 여러 핀의 태그 일괄 조회 - 성공
+    @Test
+    @DisplayName("t20 - 여러 핀의 태그 일괄 조회 성공 (태그 없는 핀은 빈 목록)")
+    void t20() throws Exception {
+        User user = userRepository.save(new User("tempUser", "pw", "email@test.com"));
+        Pin pin1 = pinRepository.save(new Pin(geometryFactory.createPoint(new Coordinate(127.0276, 37.4979)), user, "테스트용 핀1"));
+        Pin pin2 = pinRepository.save(new Pin(geometryFactory.createPoint(new Coordinate(127.0256, 37.5009)), user, "테스트용 핀2"));
+
+        mvc.perform(post("/api/pins/" + pin1.getId() + "/tags")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"keyword\":\"카페\"}"))
+                .andExpect(status().isOk());
+
+        mvc.perform(post("/api/pins/" + pin1.getId() + "/tags")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"keyword\":\"감성\"}"))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/api/tags/pins")
+                        .param("pinIds", String.valueOf(pin1.getId()))
+                        .param("pinIds", String.valueOf(pin2.getId())))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.errorCode").value("200"))
+                .andExpect(jsonPath("$.msg").value("핀별 태그 목록 조회 성공"))
+                .andExpect(jsonPath("$.data.tags['%d']".formatted(pin1.getId()), hasSize(2)))
+                .andExpect(jsonPath("$.data.tags['%d'][0].keyword".formatted(pin1.getId())).value("카페"))
+                .andExpect(jsonPath("$.data.tags['%d']".formatted(pin2.getId()), hasSize(0)));
+    }
+
+    // t21: 여러 태그 기반 핀 합집합 조회 - 페이지
+    @Test
+    @DisplayName("t21 - 여러 태그 기반 핀 합집합(OR) 조회 - 커서 페이지")
+    void t21() throws Exception {
+        User user = userRepository.save(new User("tempUser", "pw", "email@test.com"));
+        Pin pin1 = pinRepository.save(new Pin(geometryFactory.createPoint(new Coordinate(127.0276, 37.4979)), user, "테스트용 핀1"));
+        Pin pin2 = pinRepository.save(new Pin(geometryFactory.createPoint(new Coordinate(127.0256, 37.5009)), user, "테스트용 핀2"));
+
+        mvc.perform(post("/api/pins/" + pin1.getId() + "/tags")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"keyword\":\"카페\"}"))
+                .andExpect(status().isOk());
+
+        mvc.perform(post("/api/pins/" + pin2.getId() + "/tags")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"keyword\":\"데이트\"}"))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/api/tags/filter")
+                        .param("keywords", "카페")
+                        .param("keywords", "데이트")
+                        .param("mode", "OR")
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.pins", hasSize(1)))
+                .andExpect(jsonPath("$.data.pins[0].pin.id").value(pin1.getId()))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").value(pin1.getId()));
+
+        mvc.perform(get("/api/tags/filter")
+                        .param("keywords", "카페")
+                        .param("keywords", "데이트")
+                        .param("mode", "OR")
+                        .param("size", "1")
+                        .param("cursor", String.valueOf(pin1.getId())))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.pins", hasSize(1)))
+                .andExpect(jsonPath("$.data.pins[0].pin.id").value(pin2.getId()))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+
+    // t22: 여러 태그 기반 핀 조회 - 비공개/삭제된 핀 제외
+    @Test
+    @DisplayName("t22 - 여러 태그 기반 핀 조회 - 비공개/삭제된 핀은 제외")
+    void t22() throws Exception {
+        User user = userRepository.save(new User("tempUser", "pw", "email@test.com"));
+        Pin publicPin = pinRepository.save(new Pin(geometryFactory.createPoint(new Coordinate(127.0276, 37.4979)), user, "공개 핀"));
+        Pin privatePin = pinRepository.save(new Pin(geometryFactory.createPoint(new Coordinate(127.0256, 37.5009)), user, "비공개 핀"));
+        Pin deletedPin = pinRepository.save(new Pin(geometryFactory.createPoint(new Coordinate(127.0236, 37.5029)), user, "삭제된 핀"));
+
+        for (Pin pin : List.of(publicPin, privatePin, deletedPin)) {
+            mvc.perform(post("/api/pins/" + pin.getId() + "/tags")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"keyword\":\"카페\"}"))
+                    .andExpect(status().isOk());
+        }
+
+        privatePin.togglePublic();
+        deletedPin.setDeleted();
+        pinRepository.saveAndFlush(privatePin);
+        pinRepository.saveAndFlush(deletedPin);
+
+        mvc.perform(get("/api/tags/filter")
+                        .param("keywords", "카페"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.pins", hasSize(1)))
+                .andExpect(jsonPath("$.data.pins[0].pin.id").value(publicPin.getId()))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
 }
@@ -1,12 +1,15 @@
 package com.back.pinco.domain.user.controller;
 
+import com.back.pinco.domain.bookmark.service.BookmarkService;
 import com.back.pinco.domain.likes.repository.LikesRepository;
 import com.back.pinco.domain.likes.service.LikesService;
 import com.back.pinco.domain.pin.entity.Pin;
 import com.back.pinco.domain.pin.service.PinService;
 import com.back.pinco.domain.user.entity.User;
+import com.back.pinco.domain.user.entity.UserStats;
 import com.back.pinco.domain.user.repository.UserRepository;
 import com.back.pinco.domain.user.service.UserService;
+import com.back.pinco.domain.user.service.UserStatsService;
 import com.back.pinco.global.exception.ErrorCode;
 import com.back.pinco.global.exception.ServiceException;
 import com.back.pinco.global.security.JwtTokenProvider;
@@ -23,6 +26,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -56,6 +60,10 @@ class UserControllerIntegrationTest {
     private EntityManager entityManager;
     @Autowired
     private LikesService likesService;
+    @Autowired
+    private BookmarkService bookmarkService;
+    @Autowired
+    private UserStatsService userStatsService;
 
 
     @Test
@@ -770,6 +778,113 @@ class UserControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.length()").value(pinIds.length));
     }
 
+    @Test
+    @DisplayName("마이페이지 - 핀/북마크/받은 좋아요 수")
+    @Transactional
+    void myPage() throws Exception {
+        // given
+        Long userId = 1L;
+        User testUser = userService.findById(userId);
+        String jwtToken = jwtTokenProvider.generateAccessToken(testUser.getId(), testUser.getEmail(), testUser.getUserName());
+
+        List<Pin> myPins = pinService.findByUserId(testUser, testUser);
+        long likesCount = myPins.stream()
+                .mapToLong(pin -> likesService.getLikesCount(pin.getId()))
+                .sum();
+
+        // when & then
+        mvc.perform(
+                        get("/api/user/mypage")
+                                .header("Authorization", "Bearer %s %s".formatted(testUser.getApiKey(), jwtToken))
+                )
+                .andDo(print())
+                .andExpect(handler().handlerType(UserController.class))
+                .andExpect(handler().methodName("myPage"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.myPinCount").value(myPins.size()))
+                .andExpect(jsonPath("$.data.bookmarkCount").value(bookmarkService.getMyBookmarks(userId).size()))
+                .andExpect(jsonPath("$.data.likesCount").value(likesCount));
+    }
+
+    @Test
+    @DisplayName("사용자 집계 - 증감으로 유지한 값과 재계산 값이 일치")
+    @Transactional
+    void userStatsRebuild() {
+        // given: 핀 삭제, 북마크 추가로 증감 발생
+        User testUser = userService.findById(1L);
+        Pin pin = pinService.findByUserId(testUser, testUser).get(0);
+        pinService.deleteById(pin.getId(), testUser);
+        bookmarkService.addBookmark(testUser.getId(), 5L);
+
+        List<UserStats> maintained = userRepository.findAll().stream()
+                .map(user -> userStatsService.getStats(user.getId()))
+                .toList();
+
+        // when
+        userStatsService.rebuildAll();
+
+        // then
+        maintained.forEach(before -> {
+            UserStats rebuilt = userStatsService.getStats(before.getUserId());
+            assertThat(rebuilt.getPinCount()).isEqualTo(before.getPinCount());
+            assertThat(rebuilt.getBookmarkCount()).isEqualTo(before.getBookmarkCount());
+            assertThat(rebuilt.getLikesReceived()).isEqualTo(before.getLikesReceived());
+        });
+    }
+
+    @Test
+    @DisplayName("인증 사용자 캐시 - 회원정보 수정 시 무효화")
+    @Transactional
+    void principalCacheInvalidatedOnEdit() {
+        // given: 캐시에 적재
+        String apiKey = userService.findById(1L).getApiKey();
+        User cached = userService.findPrincipalByApiKey(apiKey).orElseThrow();
+        assertThat(userService.findPrincipalByApiKey(apiKey).orElseThrow()).isSameAs(cached);
+
+        // when
+        userService.editUserInfo(1L, "새닉네임", null);
+
+        // then
+        assertThat(userService.findPrincipalByApiKey(apiKey).orElseThrow().getUserName()).isEqualTo("새닉네임");
+    }
+
+    @Test
+    @DisplayName("인증 사용자 캐시 - 탈퇴 시 id / apiKey 모두 무효화")
+    @Transactional
+    void principalCacheInvalidatedOnDelete() {
+        // given: 두 키 모두 캐시에 적재
+        User user = userService.findById(2L);
+        String apiKey = user.getApiKey();
+        assertThat(userService.findPrincipalById(2L)).isPresent();
+        assertThat(userService.findPrincipalByApiKey(apiKey)).isPresent();
+
+        // when
+        userService.delete(user);
+
+        // then
+        assertThat(userService.findPrincipalById(2L)).isEmpty();
+        assertThat(userService.findPrincipalByApiKey(apiKey)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자의 access 토큰 - 401")
+    @Transactional
+    void deletedUserTokenRejected() throws Exception {
+        // given
+        User user = userService.findById(2L);
+        String jwtToken = jwtTokenProvider.generateAccessToken(user.getId(), user.getEmail(), user.getUserName());
+        userService.delete(user);
+
+        // when & then: 토큰만 보내도 엔티티 로딩 오류(500) 대신 401
+        mvc.perform(
+                        get("/api/user/mypage")
+                                .header("accessToken", jwtToken)
+                )
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.errorCode").value("2013"));
+    }
+
     @Test
     @DisplayName("탈퇴 회원 좋아요 취소 - 성공")
     @Transactional